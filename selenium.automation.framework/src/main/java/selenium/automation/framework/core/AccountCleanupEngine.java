@@ -0,0 +1,300 @@
+package selenium.automation.framework.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.openqa.selenium.WebDriver;
+
+import selenium.automation.framework.pages.HomePage;
+import selenium.automation.framework.pages.LoginPage;
+
+/**
+ * Deletes test accounts in parallel on a bounded set of workers.
+ *
+ * <p>{@link #run(AccountSource...)} merges the accounts of all sources and drops duplicate
+ * email/password pairs. A fixed number of worker threads then takes accounts from a shared
+ * queue and deletes each one through an {@link AccountDeleter}. Deleters come in two kinds:
+ * {@link #http()} makes one API call per account, and {@link #browser(String)} logs in and
+ * uses the delete link, with one pooled browser per worker. A failed attempt is retried up to
+ * {@code cleanup.retries} times with a short back-off. An account the shop does not know
+ * (already deleted, or a password that does not match) counts as not found, not as a failure.</p>
+ *
+ * <p>Accounts that were deleted or not found are removed from the {@link AccountJournal}. The
+ * {@link Report} is printed and written to {@code cleanup.summaryFile}.</p>
+ *
+ * <p>Configuration (config.properties):</p>
+ * <ul>
+ *   <li>{@code cleanup.mode} - http or browser (default http)</li>
+ *   <li>{@code cleanup.browser} - browser used in browser mode (default chrome)</li>
+ *   <li>{@code cleanup.workers} - parallel HTTP workers (default 8)</li>
+ *   <li>{@code cleanup.browserWorkers} - parallel browser workers (default 2)</li>
+ *   <li>{@code cleanup.retries} - retries per account after a failed attempt (default 2)</li>
+ *   <li>{@code cleanup.summaryFile} - report location (default target/account-cleanup.txt)</li>
+ * </ul>
+ */
+public class AccountCleanupEngine {
+
+    private static final int RETRIES = Math.max(0, ConfigManager.getIntProperty("cleanup.retries", 2));
+    private static final long BACKOFF_MS = 250;
+    private static final Path SUMMARY_FILE = Paths.get(ConfigManager.getProperty("cleanup.summaryFile", "target/account-cleanup.txt"));
+
+    /** Result of cleaning up one account. */
+    public enum Outcome {
+        /** The account existed and was deleted */
+        DELETED,
+        /** The shop has no account with these credentials */
+        NOT_FOUND,
+        /** Every attempt failed */
+        FAILED
+    }
+
+    /** Deletes one account; implementations are used by one worker thread at a time. */
+    public interface AccountDeleter {
+
+        /**
+         * @param account account to delete
+         * @return true if deleted, false if the shop has no account with these credentials
+         * @throws Exception if the attempt failed and may be retried
+         */
+        boolean delete(TestAccount account) throws Exception;
+
+        /** Called on the worker thread after a failed attempt, e.g. to drop a broken session. */
+        default void discard() {
+        }
+
+        /** Called on the worker thread when it has no more accounts to delete. */
+        default void release() {
+        }
+    }
+
+    private final AccountDeleter deleter;
+    private final int workers;
+
+    /**
+     * @param deleter how accounts are deleted
+     * @param workers maximum number of accounts deleted at the same time
+     */
+    public AccountCleanupEngine(AccountDeleter deleter, int workers) {
+        this.deleter = deleter;
+        this.workers = Math.max(1, workers);
+    }
+
+    /** @return engine with the deleter and worker count chosen by {@code cleanup.mode} */
+    public static AccountCleanupEngine fromConfig() {
+        String mode = ConfigManager.getProperty("cleanup.mode", "http");
+        if ("browser".equalsIgnoreCase(mode)) {
+            return new AccountCleanupEngine(browser(ConfigManager.getProperty("cleanup.browser", "chrome")),
+                    ConfigManager.getIntProperty("cleanup.browserWorkers", 2));
+        }
+        return new AccountCleanupEngine(http(), ConfigManager.getIntProperty("cleanup.workers", 8));
+    }
+
+    /** @return deleter calling the account API ({@link ShopApiClient}) */
+    public static AccountDeleter http() {
+        ShopApiClient api = ShopApiClient.getDefault();
+        return account -> api.deleteAccount(account.email(), account.password());
+    }
+
+    /**
+     * @param browserType browser each worker leases from the pool
+     * @return deleter logging in and using the delete link in the worker's browser
+     */
+    public static AccountDeleter browser(String browserType) {
+        return new AccountDeleter() {
+            @Override
+            public boolean delete(TestAccount account) {
+                WebDriver driver = WebdriverUtil.getDriver();
+                if (driver == null) {
+                    driver = WebdriverUtil.initializeDriver(browserType);
+                }
+                LoginPage loginPage = new LoginPage(driver);
+                loginPage.openLoginPage();
+                loginPage.performLogin(account.email(), account.password());
+                Boolean loggedIn = loginPage.awaitLoginOutcome();
+                if (loggedIn == null) {
+                    throw new IllegalStateException("No login outcome shown for " + account);
+                }
+                if (!loggedIn) {
+                    return false;
+                }
+                new HomePage(driver).clickDeleteAccount();
+                return true;
+            }
+
+            @Override
+            public void discard() {
+                WebdriverUtil.quitDriver();
+            }
+
+            @Override
+            public void release() {
+                WebdriverUtil.releaseDriver();
+            }
+        };
+    }
+
+    /**
+     * Deletes the accounts of all sources.
+     * @param sources account sources, merged in order
+     * @return outcome per account
+     */
+    public Report run(AccountSource... sources) {
+        long start = System.nanoTime();
+        Set<TestAccount> unique = new LinkedHashSet<>();
+        int listed = 0;
+        for (AccountSource source : sources) {
+            List<TestAccount> accounts = source.accounts();
+            listed += accounts.size();
+            unique.addAll(accounts);
+        }
+        Queue<TestAccount> queue = new ConcurrentLinkedQueue<>(unique);
+        Map<TestAccount, Outcome> outcomes = new ConcurrentHashMap<>();
+        int threads = Math.min(workers, unique.size());
+        System.out.println("Cleaning up " + unique.size() + " accounts (" + (listed - unique.size())
+                + " duplicates dropped) on " + threads + " workers.");
+
+        List<Thread> running = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> work(queue, outcomes), "account-cleanup-" + (i + 1));
+            worker.start();
+            running.add(worker);
+        }
+        for (Thread worker : running) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        Map<TestAccount, Outcome> ordered = new LinkedHashMap<>();
+        List<TestAccount> gone = new ArrayList<>();
+        for (TestAccount account : unique) {
+            Outcome outcome = outcomes.getOrDefault(account, Outcome.FAILED);
+            ordered.put(account, outcome);
+            if (outcome != Outcome.FAILED) {
+                gone.add(account);
+            }
+        }
+        AccountJournal.forget(gone);
+        Report report = new Report(ordered, listed - unique.size(), (System.nanoTime() - start) / 1_000_000);
+        System.out.println(report);
+        report.write(SUMMARY_FILE);
+        return report;
+    }
+
+    private void work(Queue<TestAccount> queue, Map<TestAccount, Outcome> outcomes) {
+        try {
+            TestAccount account;
+            while ((account = queue.poll()) != null) {
+                outcomes.put(account, deleteWithRetries(account));
+            }
+        } finally {
+            try {
+                deleter.release();
+            } catch (RuntimeException e) {
+                System.out.println("Cleanup worker release failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private Outcome deleteWithRetries(TestAccount account) {
+        for (int attempt = 0; attempt <= RETRIES; attempt++) {
+            try {
+                return deleter.delete(account) ? Outcome.DELETED : Outcome.NOT_FOUND;
+            } catch (Exception e) {
+                System.out.println("Cleanup attempt " + (attempt + 1) + " for " + account + " failed: " + e.getMessage());
+                try {
+                    deleter.discard();
+                } catch (RuntimeException discardFailure) {
+                    System.out.println("Cleanup worker discard failed: " + discardFailure.getMessage());
+                }
+                if (attempt < RETRIES) {
+                    try {
+                        Thread.sleep(BACKOFF_MS * (attempt + 1));
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+        return Outcome.FAILED;
+    }
+
+    /** Outcome of one cleanup run. */
+    public static final class Report {
+        private final Map<TestAccount, Outcome> outcomes;
+        private final int duplicates;
+        private final long elapsedMillis;
+
+        Report(Map<TestAccount, Outcome> outcomes, int duplicates, long elapsedMillis) {
+            this.outcomes = Collections.unmodifiableMap(outcomes);
+            this.duplicates = duplicates;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        /** @return outcome per account, in source order */
+        public Map<TestAccount, Outcome> getOutcomes() {
+            return outcomes;
+        }
+
+        /**
+         * @param outcome outcome to count
+         * @return number of accounts with the outcome
+         */
+        public int count(Outcome outcome) {
+            return (int) outcomes.values().stream().filter(outcome::equals).count();
+        }
+
+        /** @return accounts whose every attempt failed */
+        public List<TestAccount> getFailed() {
+            List<TestAccount> failed = new ArrayList<>();
+            outcomes.forEach((account, outcome) -> {
+                if (outcome == Outcome.FAILED) {
+                    failed.add(account);
+                }
+            });
+            return failed;
+        }
+
+        /** @return wall-clock time of the run in milliseconds */
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        void write(Path file) {
+            StringBuilder text = new StringBuilder(toString()).append(System.lineSeparator());
+            outcomes.forEach((account, outcome) ->
+                    text.append(outcome).append('\t').append(account).append(System.lineSeparator()));
+            try {
+                if (file.getParent() != null) {
+                    Files.createDirectories(file.getParent());
+                }
+                Files.writeString(file, text);
+            } catch (IOException e) {
+                System.out.println("Could not write cleanup summary " + file + ": " + e.getMessage());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "AccountCleanup[accounts=" + outcomes.size() + ", deleted=" + count(Outcome.DELETED)
+                    + ", notFound=" + count(Outcome.NOT_FOUND) + ", failed=" + count(Outcome.FAILED)
+                    + ", duplicatesDropped=" + duplicates + ", elapsed=" + elapsedMillis + "ms]";
+        }
+    }
+}
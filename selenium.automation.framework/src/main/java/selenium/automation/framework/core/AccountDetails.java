@@ -0,0 +1,32 @@
+package selenium.automation.framework.core;
+
+/**
+ * Account and address details entered on the second signup step ("Enter Account Information").
+ *
+ * @param title "Mr" or "Mrs" (anything else leaves the title unset)
+ * @param password account password
+ * @param dateOfBirth date of birth as year-month-day, e.g. 1990-05-09
+ * @param firstName first name
+ * @param lastName last name
+ * @param company company name
+ * @param address1 address line 1
+ * @param address2 address line 2
+ * @param country country as shown in the dropdown
+ * @param state state or region
+ * @param city city
+ * @param zipcode postal/zip code
+ * @param mobileNumber mobile number
+ */
+public record AccountDetails(String title, String password, String dateOfBirth, String firstName, String lastName,
+        String company, String address1, String address2, String country, String state, String city, String zipcode,
+        String mobileNumber) {
+
+    @Override
+    public String toString() {
+        // Password intentionally masked, these details end up in logs and reports
+        return "AccountDetails[title=" + title + ", dateOfBirth=" + dateOfBirth + ", name=" + firstName + " "
+                + lastName + ", company=" + company + ", address=" + address1 + " " + address2 + ", country="
+                + country + ", state=" + state + ", city=" + city + ", zipcode=" + zipcode + ", mobile="
+                + mobileNumber + "]";
+    }
+}
@@ -0,0 +1,99 @@
+package selenium.automation.framework.core;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Append-only record of accounts created by tests, so that cleanup can find them later.
+ *
+ * <p>Every account a test registers (through the UI or {@link ShopApiClient}) is appended to
+ * {@code cleanup.journal} (default {@code target/account-journal.tsv}), one
+ * {@code email<TAB>password} line each, URL-encoded. The file outlives the run: a cleanup
+ * started later, e.g. {@link CleanUpRegistered#main(String[])}, still sees the accounts, and
+ * {@link #forget(Collection)} drops the ones that have been deleted.</p>
+ */
+public class AccountJournal {
+
+    private static final Path FILE = Paths.get(ConfigManager.getProperty("cleanup.journal", "target/account-journal.tsv"));
+
+    private AccountJournal() {
+    }
+
+    /**
+     * Records a created account.
+     * @param email account email
+     * @param password account password
+     */
+    public static synchronized void record(String email, String password) {
+        String line = encode(email) + "\t" + encode(password) + System.lineSeparator();
+        try {
+            if (FILE.getParent() != null) {
+                Files.createDirectories(FILE.getParent());
+            }
+            Files.writeString(FILE, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.out.println("Could not journal account " + email + ": " + e.getMessage());
+        }
+    }
+
+    /** @return journaled accounts in recording order; empty if there is no journal */
+    public static synchronized List<TestAccount> read() {
+        List<TestAccount> accounts = new ArrayList<>();
+        if (!Files.isRegularFile(FILE)) {
+            return accounts;
+        }
+        try {
+            for (String line : Files.readAllLines(FILE, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    accounts.add(new TestAccount(decode(line.substring(0, tab)), decode(line.substring(tab + 1))));
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not read account journal " + FILE + ": " + e.getMessage());
+        }
+        return accounts;
+    }
+
+    /**
+     * Removes accounts that no longer need cleaning up.
+     * @param accounts accounts deleted or confirmed absent
+     */
+    public static synchronized void forget(Collection<TestAccount> accounts) {
+        if (accounts.isEmpty() || !Files.isRegularFile(FILE)) {
+            return;
+        }
+        Set<TestAccount> gone = new HashSet<>(accounts);
+        StringBuilder kept = new StringBuilder();
+        for (TestAccount account : read()) {
+            if (!gone.contains(account)) {
+                kept.append(encode(account.email())).append('\t').append(encode(account.password()))
+                        .append(System.lineSeparator());
+            }
+        }
+        try {
+            Files.writeString(FILE, kept);
+        } catch (IOException e) {
+            System.out.println("Could not update account journal " + FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,154 @@
+package selenium.automation.framework.core;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+
+import selenium.automation.framework.pages.CartPage;
+import selenium.automation.framework.pages.LoginPage;
+
+/**
+ * Pool of dedicated shop accounts leased to tests, one per running test.
+ *
+ * <p>The shop keeps one cart per account on the server, so parallel tests logged in as the
+ * same user change each other's cart. {@link #lease()} hands every test its own account:
+ * an idle one from the pool, or the next pool slot when the pool has run dry.
+ * {@link #release(WebDriver, TestAccount)} empties the account's cart in the test's browser and
+ * parks the account for the next test; an account whose cart could not be emptied is dropped
+ * rather than handed on.</p>
+ *
+ * <p>Slots have stable emails ({@code <prefix>.<n>@example.com}), so every run reuses the
+ * accounts of earlier runs: a slot is only registered through {@link ShopApiClient} when no
+ * account with the pool password exists for it yet, and the shop never holds more pool accounts
+ * than the most tests that ran at once. A slot whose email was taken by someone else is
+ * skipped. Runs that can overlap (e.g. several CI jobs) need different prefixes.</p>
+ *
+ * <p>Configuration (config.properties):</p>
+ * <ul>
+ *   <li>{@code account.pool.enabled} - lease pool accounts instead of the suite credentials (default true)</li>
+ *   <li>{@code account.pool.prefill} - accounts registered up front by {@link #prefill()} (default 0)</li>
+ *   <li>{@code account.pool.password} - password of pool accounts (default Passw0rd!)</li>
+ *   <li>{@code account.pool.emailPrefix} - local part before the slot number (default c4.pool)</li>
+ * </ul>
+ */
+public class AccountPool {
+
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("account.pool.enabled", true);
+    private static final int PREFILL = ConfigManager.getIntProperty("account.pool.prefill", 0);
+    private static final String PASSWORD = ConfigManager.getProperty("account.pool.password", "Passw0rd!");
+
+    private static final String EMAIL_PREFIX = ConfigManager.getProperty("account.pool.emailPrefix", "c4.pool");
+    // Slots skipped because their email belongs to an account with another password
+    private static final int MAX_TAKEN_SLOTS = 20;
+
+    // Last slot handed out in this run
+    private static final AtomicInteger slots = new AtomicInteger();
+
+    private static final LinkedBlockingDeque<TestAccount> idle = new LinkedBlockingDeque<>();
+    private static final Set<TestAccount> leased = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong leases = new AtomicLong();
+    private static final AtomicLong reused = new AtomicLong();
+    private static final AtomicLong provisioned = new AtomicLong();
+    private static final AtomicLong adopted = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+
+    private AccountPool() {
+    }
+
+    /** @return true if tests should lease pool accounts */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** Makes {@code account.pool.prefill} accounts ready ahead of the first leases. */
+    public static void prefill() {
+        for (int i = idle.size(); i < PREFILL; i++) {
+            idle.offer(provision());
+        }
+    }
+
+    /**
+     * Leases an account no other running test uses.
+     * @return idle account, or the account of the next slot
+     * @throws IllegalStateException if no account is idle and no slot can be set up
+     */
+    public static TestAccount lease() {
+        TestAccount account = idle.pollFirst();
+        if (account == null) {
+            account = provision();
+        } else {
+            reused.incrementAndGet();
+        }
+        leased.add(account);
+        leases.incrementAndGet();
+        return account;
+    }
+
+    /**
+     * Returns a leased account after emptying its cart in the test's browser.
+     * @param driver session the test used, or null if it has none
+     * @param account leased account
+     */
+    public static void release(WebDriver driver, TestAccount account) {
+        if (!leased.remove(account)) {
+            return;
+        }
+        boolean clean = false;
+        if (driver != null) {
+            try {
+                LoginPage loginPage = new LoginPage(driver);
+                CartPage cartPage = new CartPage(driver);
+                cartPage.openCartPage();
+                if (!cartPage.isUserLoggedIn()) {
+                    // The test logged out; the account's cart is only reachable logged in
+                    loginPage.loginAs(account.email(), account.password());
+                }
+                clean = cartPage.emptyCart();
+            } catch (RuntimeException e) {
+                System.out.println("Could not reset cart of " + account + ": " + e.getMessage());
+            }
+        }
+        if (clean) {
+            idle.offerFirst(account);
+        } else {
+            dropped.incrementAndGet();
+            System.out.println("Dropping pool account " + account + " (cart state unknown)");
+        }
+    }
+
+    /** @return one-line summary of pool usage for the run */
+    public static String summary() {
+        return "AccountPool[leases=" + leases.get() + ", provisioned=" + provisioned.get()
+                + ", adopted=" + adopted.get() + ", reused=" + reused.get() + ", dropped=" + dropped.get()
+                + ", idle=" + idle.size() + "]";
+    }
+
+    /** Takes the next slot, registering its account unless an earlier run already did. */
+    private static TestAccount provision() {
+        for (int taken = 0; taken < MAX_TAKEN_SLOTS; taken++) {
+            int n = slots.incrementAndGet();
+            String email = EMAIL_PREFIX + "." + n + "@example.com";
+            ShopApiClient api = ShopApiClient.getDefault();
+            if (api.verifyLogin(email, PASSWORD)) {
+                adopted.incrementAndGet();
+                return new TestAccount(email, PASSWORD);
+            }
+            AccountDetails details = new AccountDetails("Mr", PASSWORD, "1990-05-15", "Pool", "User" + n, "QA Labs",
+                    "123 Main St", "Apt " + n, "United States", "California", "Los Angeles", "90001", "+1-310-555-0101");
+            ShopApiClient.Response created = api.createAccount("Pool User " + n, email, details);
+            if (created.isCreated()) {
+                provisioned.incrementAndGet();
+                System.out.println("Registered pool account " + email);
+                return new TestAccount(email, PASSWORD);
+            }
+            System.out.println("Skipping pool slot " + email + ": " + created);
+        }
+        throw new IllegalStateException("No usable pool slot among the last " + MAX_TAKEN_SLOTS
+                + " (" + EMAIL_PREFIX + ".*@example.com)");
+    }
+}
@@ -0,0 +1,43 @@
+package selenium.automation.framework.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Supplies test accounts to {@link AccountCleanupEngine}.
+ *
+ * <p>Sources in use: the fixed user list of {@link CleanUpRegistered}, rows of a test data
+ * sheet (e.g. {@code Registrations}, read by the test side and passed in with
+ * {@link #of(Object[][], int, int)}), and the {@link AccountJournal} of accounts created
+ * during the run.</p>
+ */
+@FunctionalInterface
+public interface AccountSource {
+
+    /** @return accounts of this source; may contain duplicates */
+    List<TestAccount> accounts();
+
+    /**
+     * @param rows table of test data, e.g. a DataProvider result
+     * @param emailColumn column holding the email
+     * @param passwordColumn column holding the password
+     * @return source of the rows that have an email
+     */
+    static AccountSource of(Object[][] rows, int emailColumn, int passwordColumn) {
+        return () -> {
+            List<TestAccount> accounts = new ArrayList<>();
+            for (Object[] row : rows) {
+                String email = row[emailColumn] == null ? "" : row[emailColumn].toString().trim();
+                if (!email.isEmpty()) {
+                    accounts.add(new TestAccount(email, row[passwordColumn] == null ? "" : row[passwordColumn].toString()));
+                }
+            }
+            return accounts;
+        };
+    }
+
+    /** @return accounts recorded in the journal, this run's and those left by earlier runs */
+    static AccountSource journal() {
+        return AccountJournal::read;
+    }
+}
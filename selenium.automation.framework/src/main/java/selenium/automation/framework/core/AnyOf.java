@@ -0,0 +1,110 @@
+package selenium.automation.framework.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Wait condition that holds as soon as any one of several named alternatives holds.
+ *
+ * <p>Every evaluation checks all alternatives in declaration order, so a page that only
+ * satisfies the last alternative is recognised in the same poll cycle as one that satisfies
+ * the first; no alternative waits for another to time out. The first alternative returning a
+ * value other than null or false wins, and the {@link Match} names it. NotFound and
+ * StaleElementReference thrown by one alternative count as "not yet" for that alternative
+ * only.</p>
+ *
+ * <p>Alternatives should look elements up without waiting (see {@code ElementProbe}): an
+ * implicit wait inside one alternative delays every other one. Use with
+ * {@link WaitEngine#untilAny(WebDriver, WaitEngine.Span, AnyOf)}.</p>
+ *
+ * @param <T> value type produced by the alternatives
+ */
+public final class AnyOf<T> implements Function<WebDriver, AnyOf.Match<T>> {
+
+    private final Map<String, Function<? super WebDriver, ? extends T>> alternatives = new LinkedHashMap<>();
+
+    private AnyOf() {
+    }
+
+    /**
+     * @param name name reported when this alternative matches
+     * @param alternative condition returning a value once it holds, null or false before
+     * @return new combinator with one alternative
+     */
+    public static <T> AnyOf<T> of(String name, Function<? super WebDriver, ? extends T> alternative) {
+        return new AnyOf<T>().or(name, alternative);
+    }
+
+    /**
+     * Adds an alternative with lower precedence than the ones already added.
+     * @param name name reported when this alternative matches, unique within the combinator
+     * @param alternative condition returning a value once it holds, null or false before
+     * @return this combinator
+     */
+    public AnyOf<T> or(String name, Function<? super WebDriver, ? extends T> alternative) {
+        if (alternatives.putIfAbsent(name, alternative) != null) {
+            throw new IllegalArgumentException("Duplicate alternative: " + name);
+        }
+        return this;
+    }
+
+    /**
+     * Evaluates every alternative once, in order.
+     * @param driver session to check
+     * @return the first alternative that holds, or null if none does yet
+     */
+    @Override
+    public Match<T> apply(WebDriver driver) {
+        for (Map.Entry<String, Function<? super WebDriver, ? extends T>> alternative : alternatives.entrySet()) {
+            try {
+                T value = alternative.getValue().apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return new Match<>(alternative.getKey(), value);
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                // this alternative does not hold yet; the others still get their turn
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "any of " + new ArrayList<>(alternatives.keySet());
+    }
+
+    /**
+     * Alternative that held, with the value it produced.
+     * @param <T> value type produced by the alternatives
+     */
+    public static final class Match<T> {
+        private final String name;
+        private final T value;
+
+        private Match(String name, T value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        /** @return name of the alternative that held */
+        public String name() {
+            return name;
+        }
+
+        /** @return value the alternative produced */
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + value;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package selenium.automation.framework.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Suite-wide cap on the number of live browser processes.
+ *
+ * <p>Every browser launched through {@link DriverPool} holds one slot until it is quit,
+ * whether it is leased by a test or parked idle. Threads that need a browser while the
+ * budget is exhausted queue on a fair lock, so free slots go to whichever {@code <test>}
+ * block asked first rather than staying reserved for the block that owned them.</p>
+ *
+ * <p>The limit comes from {@code -Dbrowser.budget} or {@code browser.budget} in config.properties.
+ * A value of 0 (default) derives it from the machine: the smaller of the CPU count and
+ * physical RAM divided by {@code browser.budget.memoryPerBrowserMb} (default 500).</p>
+ */
+public class BrowserBudget {
+
+    private static final ReentrantLock lock = new ReentrantLock(true);
+    private static final Condition slotFreed = lock.newCondition();
+
+    private static int limit = initialLimit();
+    private static int live;
+
+    private BrowserBudget() {
+    }
+
+    /**
+     * Takes a slot, waiting up to the given time for one to free up.
+     * @param timeout maximum wait
+     * @param unit unit of timeout
+     * @return true if a slot was taken
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (live >= limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = slotFreed.awaitNanos(remaining);
+            }
+            live++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a slot only if one is free right now.
+     * @return true if a slot was taken
+     */
+    public static boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (live >= limit) {
+                return false;
+            }
+            live++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a slot after a browser has been quit.
+     */
+    public static void release() {
+        lock.lock();
+        try {
+            if (live > 0) {
+                live--;
+            }
+            slotFreed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the number of browsers allowed at once. Lowering the limit never kills
+     * running browsers; new launches simply wait until enough have been quit.
+     * @param newLimit new limit (at least 1)
+     */
+    public static void setLimit(int newLimit) {
+        lock.lock();
+        try {
+            limit = Math.max(1, newLimit);
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return current number of browsers allowed at once */
+    public static int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return number of browsers currently holding a slot */
+    public static int getLive() {
+        lock.lock();
+        try {
+            return live;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return number of threads waiting for a slot */
+    public static int getQueued() {
+        lock.lock();
+        try {
+            return lock.getWaitQueueLength(slotFreed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int initialLimit() {
+        int configured;
+        try {
+            configured = Integer.parseInt(System.getProperty("browser.budget",
+                    String.valueOf(ConfigManager.getIntProperty("browser.budget", 0))));
+        } catch (NumberFormatException e) {
+            configured = 0;
+        }
+        if (configured > 0) {
+            System.out.println("Browser budget (configured): " + configured);
+            return configured;
+        }
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int perBrowserMb = ConfigManager.getIntProperty("browser.budget.memoryPerBrowserMb", 500);
+        long totalMb = totalMemoryMb();
+        int byMemory = totalMb > 0 ? (int) (totalMb / perBrowserMb) : cpus;
+        int derived = Math.max(1, Math.min(cpus, byMemory));
+        System.out.println("Browser budget (derived): " + derived + " [cpus=" + cpus + ", totalMemoryMb=" + totalMb + "]");
+        return derived;
+    }
+
+    private static long totalMemoryMb() {
+        try {
+            com.sun.management.OperatingSystemMXBean os =
+                    (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+            return os.getTotalMemorySize() / (1024 * 1024);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package selenium.automation.framework.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+
+/**
+ * Per-test browser-context isolation inside one long-lived browser process.
+ *
+ * <p>With {@code driver.isolation=context} every lease from {@link DriverPool} opens a fresh
+ * BiDi user context (an incognito-like profile with its own cookies, web storage and cache) and
+ * switches the session into a tab of it, so {@link WebdriverUtil#getDriver()} is scoped to that
+ * context. On release the user context is removed, which throws away all of its state for every
+ * origin at once, and the session goes back to its anchor tab to be parked for the next test.
+ * This replaces the per-origin cookie/storage reset and keeps one browser per worker thread.</p>
+ *
+ * <p>Tabs of a browser shared through {@link TabMultiplexer} get a user context of their own
+ * as well, independently of the per-lease mode, unless {@code driver.multiplex.sharedState}
+ * is true.</p>
+ *
+ * <p>If the browser or driver does not support user contexts the mode switches itself off for
+ * the rest of the run and the pool falls back to resetting sessions.</p>
+ *
+ * <p>Configuration: {@code -Ddriver.isolation} or {@code driver.isolation} in config.properties,
+ * {@code process} (default) or {@code context}; {@code driver.multiplex.sharedState} (default false).</p>
+ */
+public class BrowserContextIsolation {
+
+    private static volatile boolean enabled = "context".equalsIgnoreCase(
+            System.getProperty("driver.isolation", ConfigManager.getProperty("driver.isolation", "process")).trim());
+    // Multiplexed tabs get user contexts of their own unless they are configured to share the host's state
+    private static volatile boolean tabsIsolated = !ConfigManager.getBooleanProperty("driver.multiplex.sharedState", false);
+
+    // Open user context and the anchor tab (default context) to return to, per session
+    private static final Map<WebDriver, String> userContexts = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, String> anchors = new ConcurrentHashMap<>();
+    // User context of every multiplexed tab, by window handle (see TabMultiplexer)
+    private static final Map<String, String> tabContexts = new ConcurrentHashMap<>();
+
+    private BrowserContextIsolation() {
+    }
+
+    /** @return true while per-test browser contexts are in use */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /** @return true while multiplexed tabs can get user contexts of their own */
+    static boolean canIsolateTabs() {
+        return tabsIsolated;
+    }
+
+    /**
+     * Requests a BiDi connection on the launch options when tests or tabs get user contexts.
+     * @param options browser options about to be used for a launch
+     * @return the same options
+     */
+    static <T extends MutableCapabilities> T prepare(T options) {
+        if (enabled || tabsIsolated) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
+    /**
+     * Opens a new user context for a freshly leased session and switches the session into it.
+     * @param driver leased session
+     * @return true if the session now runs in its own context
+     */
+    static boolean open(WebDriver driver) {
+        if (!enabled) {
+            return false;
+        }
+        String anchor = driver.getWindowHandle();
+        String[] contextAndTab = openContextTab(driver);
+        if (contextAndTab == null) {
+            enabled = false;
+            System.out.println("Browser-context isolation unavailable, falling back to session reset");
+            return false;
+        }
+        driver.switchTo().window(contextAndTab[1]);
+        anchors.put(driver, anchor);
+        userContexts.put(driver, contextAndTab[0]);
+        return true;
+    }
+
+    /**
+     * Opens an extra tab in a user context of its own, without switching to it.
+     * Used to give each multiplexed test its own cookies and storage inside a shared browser.
+     * @param driver session that hosts the tab
+     * @return window handle of the new tab, or null when tab isolation is off or unsupported
+     */
+    static String openTab(WebDriver driver) {
+        if (!tabsIsolated) {
+            return null;
+        }
+        String[] contextAndTab = openContextTab(driver);
+        if (contextAndTab == null) {
+            tabsIsolated = false;
+            System.out.println("Tab isolation unavailable, multiplexed tests get browsers of their own");
+            return null;
+        }
+        tabContexts.put(contextAndTab[1], contextAndTab[0]);
+        return contextAndTab[1];
+    }
+
+    /**
+     * Removes the user context of a tab opened with {@link #openTab(WebDriver)}, closing the tab.
+     * @param driver session that hosts the tab
+     * @param handle window handle returned by openTab
+     * @return true if the tab had its own context
+     */
+    static boolean closeTab(WebDriver driver, String handle) {
+        String userContext = tabContexts.remove(handle);
+        if (userContext == null) {
+            return false;
+        }
+        new Browser(driver).removeUserContext(userContext);
+        return true;
+    }
+
+    /** Creates a user context plus one tab in it; null if the browser cannot. */
+    private static String[] openContextTab(WebDriver driver) {
+        try {
+            String userContext = new Browser(driver).createUserContext();
+            BrowsingContext tab = new BrowsingContext(driver,
+                    new CreateContextParameters(WindowType.TAB).userContext(userContext));
+            return new String[] { userContext, tab.getId() };
+        } catch (Exception e) {
+            System.out.println("Could not create browser context: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Removes the session's user context (and every tab in it) and returns to the anchor tab.
+     * @param driver session being released
+     * @return true if the session had a context and is clean again; false if it must be reset instead
+     */
+    static boolean close(WebDriver driver) {
+        String userContext = userContexts.remove(driver);
+        String anchor = anchors.remove(driver);
+        if (userContext == null || anchor == null) {
+            return false;
+        }
+        new Browser(driver).removeUserContext(userContext);
+        // Windows opened through classic commands may have landed in the default context
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(anchor)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(anchor);
+        return true;
+    }
+
+    /**
+     * Forgets a session that is being quit.
+     * @param driver session being quit
+     */
+    static void forget(WebDriver driver) {
+        userContexts.remove(driver);
+        anchors.remove(driver);
+    }
+}
@@ -8,20 +8,37 @@ import selenium.automation.framework.pages.LoginPage;
 /**
  * Utility class intended to perform post-test cleanup of any registered test users.
  *
- * <p>NOTE: This implementation currently relies on UI interactions. For large test
- * suites or production systems, prefer using a backend API or database operation
- * for faster and more reliable cleanup.</p>
+ * <p>{@link #cleanUp()} deletes the predefined users below plus every account journaled
+ * during earlier runs ({@link AccountJournal}) with the {@link AccountCleanupEngine}: in
+ * parallel, through the shop API by default. {@link #cleanUp(WebDriver)} is the original
+ * serial walk through the UI in a given browser.</p>
  */
 public class CleanUpRegistered {
     /**
      * Simple manual runner to invoke cleanup from the command line.
-     * In CI this would normally not be used; instead call {@link #cleanUp(WebDriver)} after suites.
+     * Accounts the API could not delete are retried through the UI.
      */
     public static void main(String[] args) {
-        // Initialize a throwaway Chrome session for cleanup
-        WebDriver driver = WebdriverUtil.initializeDriver("chrome");
-        cleanUp(driver); // Execute cleanup logic
-        WebdriverUtil.quitDriver(); // Ensure browser is closed
+        AccountCleanupEngine.Report report = cleanUp();
+        if (!report.getFailed().isEmpty() && !"browser".equalsIgnoreCase(ConfigManager.getProperty("cleanup.mode", "http"))) {
+            System.out.println(report.getFailed().size() + " accounts not deleted via API, retrying through the UI.");
+            new AccountCleanupEngine(AccountCleanupEngine.browser(ConfigManager.getProperty("cleanup.browser", "chrome")),
+                    ConfigManager.getIntProperty("cleanup.browserWorkers", 2)).run(report::getFailed);
+        }
+    }
+
+    /**
+     * Deletes the predefined test users and all journaled accounts.
+     *
+     * @return outcome per account
+     */
+    public static AccountCleanupEngine.Report cleanUp() {
+        return AccountCleanupEngine.fromConfig().run(registeredUsers(), AccountSource.journal());
+    }
+
+    /** @return the predefined test users below as a cleanup source */
+    public static AccountSource registeredUsers() {
+        return AccountSource.of(data, 0, 1);
     }
 
     /**
@@ -0,0 +1,134 @@
+package selenium.automation.framework.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive controller that raises or lowers the {@link BrowserBudget} limit from live
+ * memory and CPU load readings.
+ *
+ * <p>Every sample reads {@code MemAvailable} from /proc/meminfo and the 1-minute load average
+ * from /proc/loadavg. The memory ceiling is the browsers already running plus as many new
+ * ones as fit in the available memory (minus a reserve); on top of that the limit steps down
+ * by one while load per CPU is above {@code concurrency.maxLoadPerCpu} and steps up by one
+ * while it is below half of it. When the limit is reached new driver requests queue in the
+ * budget instead of launching. Every change is logged with the readings behind it.</p>
+ *
+ * <p>Samples run on a background timer and, rate-limited, right before each launch so a
+ * burst of requests sees fresh numbers. On systems without /proc the controller stays off
+ * and the static budget applies.</p>
+ *
+ * <p>Configuration (config.properties): {@code concurrency.adaptive.enabled},
+ * {@code concurrency.sampleIntervalMs}, {@code concurrency.memoryReserveMb},
+ * {@code concurrency.maxLoadPerCpu}, {@code concurrency.min}, {@code concurrency.max}
+ * (0 = the initial budget), and {@code browser.budget.memoryPerBrowserMb}.</p>
+ */
+public class ConcurrencyController {
+
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final Path LOADAVG = Paths.get("/proc/loadavg");
+    private static final long MIN_SAMPLE_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("concurrency.adaptive.enabled", true);
+    private static final long INTERVAL_MS = ConfigManager.getIntProperty("concurrency.sampleIntervalMs", 2000);
+    private static final long RESERVE_MB = ConfigManager.getIntProperty("concurrency.memoryReserveMb", 1024);
+    private static final long PER_BROWSER_MB = ConfigManager.getIntProperty("browser.budget.memoryPerBrowserMb", 500);
+    private static final double MAX_LOAD_PER_CPU = Double.parseDouble(
+            ConfigManager.getProperty("concurrency.maxLoadPerCpu", "1.5"));
+    private static final int MIN = ConfigManager.getIntProperty("concurrency.min", 1);
+
+    private static ScheduledExecutorService timer;
+    private static int max;
+    private static long lastSampleNanos;
+
+    private ConcurrencyController() {
+    }
+
+    /**
+     * Starts background sampling once per JVM; no-op when disabled or /proc is unavailable.
+     */
+    public static synchronized void ensureStarted() {
+        if (!ENABLED || timer != null) {
+            return;
+        }
+        if (!Files.isReadable(MEMINFO) || !Files.isReadable(LOADAVG)) {
+            System.out.println("Adaptive concurrency disabled: /proc not available, using static budget "
+                    + BrowserBudget.getLimit());
+            return;
+        }
+        int configuredMax = ConfigManager.getIntProperty("concurrency.max", 0);
+        max = configuredMax > 0 ? configuredMax : BrowserBudget.getLimit();
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleWithFixedDelay(ConcurrencyController::sampleNow, 0, INTERVAL_MS, TimeUnit.MILLISECONDS);
+        System.out.println("Adaptive concurrency started: min=" + MIN + ", max=" + max
+                + ", memoryPerBrowserMb=" + PER_BROWSER_MB + ", reserveMb=" + RESERVE_MB
+                + ", maxLoadPerCpu=" + MAX_LOAD_PER_CPU);
+    }
+
+    /**
+     * Takes a sample and adjusts the budget, unless one was taken in the last 250 ms.
+     */
+    public static synchronized void sampleNow() {
+        if (timer == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastSampleNanos != 0 && now - lastSampleNanos < MIN_SAMPLE_GAP_NANOS) {
+            return;
+        }
+        lastSampleNanos = now;
+        try {
+            long availableMb = readMemAvailableMb();
+            double load = readLoadAverage();
+            int cpus = Runtime.getRuntime().availableProcessors();
+            int live = BrowserBudget.getLive();
+            int current = BrowserBudget.getLimit();
+
+            long memoryCeiling = live + Math.max(0, (availableMb - RESERVE_MB) / PER_BROWSER_MB);
+            double loadPerCpu = load / cpus;
+            int target = current;
+            if (loadPerCpu > MAX_LOAD_PER_CPU) {
+                target = current - 1;
+            } else if (loadPerCpu < MAX_LOAD_PER_CPU / 2) {
+                target = current + 1;
+            }
+            target = (int) Math.min(target, memoryCeiling);
+            target = Math.max(MIN, Math.min(max, target));
+
+            if (target != current) {
+                BrowserBudget.setLimit(target);
+                System.out.println(String.format(
+                        "Concurrency limit %d -> %d [memAvailableMb=%d, load1=%.2f, cpus=%d, live=%d, queued=%d]",
+                        current, target, availableMb, load, cpus, live, BrowserBudget.getQueued()));
+            }
+        } catch (Exception e) {
+            System.out.println("Concurrency sample failed: " + e.getMessage());
+        }
+    }
+
+    private static long readMemAvailableMb() throws IOException {
+        List<String> lines = Files.readAllLines(MEMINFO);
+        for (String line : lines) {
+            if (line.startsWith("MemAvailable:")) {
+                String kb = line.substring("MemAvailable:".length()).replace("kB", "").trim();
+                return Long.parseLong(kb) / 1024;
+            }
+        }
+        throw new IOException("MemAvailable not found in " + MEMINFO);
+    }
+
+    private static double readLoadAverage() throws IOException {
+        String content = Files.readString(LOADAVG).trim();
+        return Double.parseDouble(content.split("\\s+")[0]);
+    }
+}
@@ -59,5 +59,50 @@ public class ConfigManager {
     public static Integer getIntProperty(String key) {
         return Integer.parseInt(props.getProperty(key));
     }
+
+    /**
+     * Retrieves a property value as a String, falling back to a default when the key is absent.
+     *
+     * @param key The key of the property to retrieve.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The property value or the default.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = props.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    /**
+     * Retrieves a property value as a Boolean, falling back to a default when the key is absent.
+     *
+     * @param key The key of the property to retrieve.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The property value as a Boolean or the default.
+     */
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Retrieves a property value as an Integer, falling back to a default when the key is absent
+     * or not a valid number.
+     *
+     * @param key The key of the property to retrieve.
+     * @param defaultValue The value returned when the key is not configured.
+     * @return The property value as an Integer or the default.
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid integer for '" + key + "': " + value + ". Using " + defaultValue);
+            return defaultValue;
+        }
+    }
     
 }
@@ -0,0 +1,207 @@
+package selenium.automation.framework.core;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Resolves driver binaries (chromedriver, geckodriver, msedgedriver) once per JVM per browser.
+ *
+ * <p>The first lookup for a browser detects the installed browser's major version and
+ * consults an on-disk manifest ({@code <browser>.<majorVersion>=<driverPath>}). WebDriverManager
+ * is only invoked when the manifest has no entry for that version or the recorded binary no
+ * longer exists, so later JVMs (and air-gapped runners) start without any network access.
+ * The result is memoized and exported through the usual {@code webdriver.*.driver} system property.</p>
+ *
+ * <p>Manifest location: {@code driver.manifest.path} in config.properties, defaulting to
+ * {@code ~/.cache/selenium-automation-framework/driver-manifest.properties}.</p>
+ */
+public class DriverBinaryResolver {
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.\\d+");
+    private static final String UNKNOWN_VERSION = "unknown";
+    private static final long VERSION_TIMEOUT_SECONDS = 5;
+
+    // Driver path already resolved in this JVM, per browser
+    private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+    // One lock per browser so chrome and firefox can resolve concurrently
+    private static final Map<String, Object> locks = new ConcurrentHashMap<>();
+    // Guards read-modify-write of the manifest file
+    private static final Object manifestLock = new Object();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Ensures the driver binary for the given browser is available and exported.
+     * Cheap after the first call for a browser in this JVM.
+     * @param browser normalized browser type (chrome, firefox, edge)
+     * @return absolute path of the driver binary
+     */
+    public static String resolve(String browser) {
+        String path = resolved.get(browser);
+        if (path != null) {
+            return path;
+        }
+        synchronized (locks.computeIfAbsent(browser, key -> new Object())) {
+            path = resolved.get(browser);
+            if (path == null) {
+                path = resolveUncached(browser);
+                System.setProperty(driverProperty(browser), path);
+                resolved.put(browser, path);
+            }
+        }
+        return path;
+    }
+
+    private static String resolveUncached(String browser) {
+        String version = detectBrowserVersion(browser);
+        String key = browser + "." + version;
+        synchronized (manifestLock) {
+            Properties manifest = loadManifest();
+            String cached = manifest.getProperty(key);
+            if (cached != null && Files.isExecutable(Paths.get(cached))) {
+                System.out.println("Driver binary for " + browser + " " + version + " taken from manifest: " + cached);
+                return cached;
+            }
+        }
+
+        System.out.println("Driver manifest missing or stale for " + browser + " " + version + ", resolving with WebDriverManager");
+        WebDriverManager manager = manager(browser);
+        manager.setup();
+        String path = manager.getDownloadedDriverPath();
+
+        synchronized (manifestLock) {
+            Properties manifest = loadManifest();
+            manifest.setProperty(key, path);
+            storeManifest(manifest);
+        }
+        return path;
+    }
+
+    /**
+     * Detects the installed browser major version by asking the binary itself, or on Windows
+     * (where {@code --version} prints nothing and starts the browser) from its file version.
+     * Falls back to "unknown" (manifest entry is then trusted as long as the driver exists).
+     */
+    private static String detectBrowserVersion(String browser) {
+        try {
+            Optional<Path> browserPath = manager(browser).getBrowserPath();
+            if (browserPath.isEmpty()) {
+                return UNKNOWN_VERSION;
+            }
+            String binary = browserPath.get().toString();
+            List<String> command = System.getProperty("os.name", "").toLowerCase().startsWith("windows")
+                    ? List.of("powershell", "-NoProfile", "-NonInteractive", "-Command",
+                            "(Get-Item -LiteralPath '" + binary.replace("'", "''") + "').VersionInfo.ProductVersion")
+                    : List.of(binary, "--version");
+            String output = firstLine(command);
+            if (output != null) {
+                Matcher matcher = VERSION.matcher(output);
+                if (matcher.find()) {
+                    return matcher.group(1);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("Could not detect " + browser + " version: " + e.getMessage());
+        }
+        return UNKNOWN_VERSION;
+    }
+
+    /**
+     * Runs a command with its output redirected to a temp file, so a command that never exits
+     * (or never writes) cannot block the caller past the timeout.
+     * @return first line of output, or null if the command timed out or printed nothing
+     */
+    private static String firstLine(List<String> command) throws Exception {
+        Path output = Files.createTempFile("browser-version", ".txt");
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(VERSION_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                System.out.println("Browser version probe timed out: " + String.join(" ", command));
+                return null;
+            }
+            return new String(Files.readAllBytes(output), StandardCharsets.UTF_8).lines()
+                    .filter(line -> !line.isBlank()).findFirst().orElse(null);
+        } finally {
+            Files.deleteIfExists(output);
+        }
+    }
+
+    private static WebDriverManager manager(String browser) {
+        switch (browser) {
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String driverProperty(String browser) {
+        switch (browser) {
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static Path manifestPath() {
+        String configured = ConfigManager.getProperty("driver.manifest.path", null);
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "selenium-automation-framework",
+                "driver-manifest.properties");
+    }
+
+    private static Properties loadManifest() {
+        Properties manifest = new Properties();
+        Path path = manifestPath();
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                manifest.load(in);
+            } catch (Exception e) {
+                System.out.println("Ignoring unreadable driver manifest " + path + ": " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /** Writes via temp file + atomic move so concurrent JVMs never read a half-written manifest. */
+    private static void storeManifest(Properties manifest) {
+        Path path = manifestPath();
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), "driver-manifest", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                manifest.store(out, "browser.majorVersion=driverPath");
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            System.out.println("Could not write driver manifest " + path + ": " + e.getMessage());
+        }
+    }
+}
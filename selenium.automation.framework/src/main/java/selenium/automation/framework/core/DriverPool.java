@@ -0,0 +1,438 @@
+package selenium.automation.framework.core;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+/**
+ * Global pool of warm WebDriver sessions shared by all test threads.
+ *
+ * <p>Launching a browser is the most expensive step of every test, so instead of
+ * quitting a session after each test it is reset (extra windows closed, cookies and
+ * web storage cleared, navigated to about:blank; see {@link #reset(WebDriver)}) and
+ * parked for the next lease.
+ * Sessions that fail the health probe or the reset are quit and replaced by a
+ * fresh launch. With {@link BrowserContextIsolation} enabled each lease runs in its own
+ * browser context instead, and releasing the session simply removes that context.
+ * {@link DriverWarmer} can park pre-launched sessions ahead of demand; a lease that finds
+ * the pool empty while a background launch is running waits for it rather than starting a
+ * second browser. Every launched browser holds a {@link BrowserBudget} slot until it is quit;
+ * when the budget is exhausted leases wait for a released session or a free slot.</p>
+ *
+ * <p>Configuration (config.properties):</p>
+ * <ul>
+ *   <li>{@code driver.pool.enabled} - set to false to launch/quit per test (default true)</li>
+ *   <li>{@code driver.pool.maxIdle} - maximum parked sessions across all browsers (default 8)</li>
+ * </ul>
+ */
+public class DriverPool {
+
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("driver.pool.enabled", true);
+    private static final int MAX_IDLE = ConfigManager.getIntProperty("driver.pool.maxIdle", 8);
+    private static final long WARM_WAIT_SLICE_MS = 200;
+    // DevTools storage types cleared per visited origin on reset (cookies are deleted separately)
+    private static final String CLEARED_STORAGE_TYPES =
+            "local_storage,indexeddb,websql,cache_storage,service_workers,file_systems";
+
+    // Parked sessions per normalized browser type
+    private static final Map<String, LinkedBlockingDeque<WebDriver>> idle = new ConcurrentHashMap<>();
+    // Browser type of every session currently handed out
+    private static final Map<WebDriver, String> leased = new ConcurrentHashMap<>();
+
+    // Counters exposed through summary()
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong discards = new AtomicLong();
+    private static final AtomicLong resets = new AtomicLong();
+    private static final AtomicLong resetNanos = new AtomicLong();
+    private static final AtomicLong launches = new AtomicLong();
+    private static final AtomicLong launchNanos = new AtomicLong();
+    // Time each lease spent waiting for a browser (parked, warming or launched inline)
+    private static final LatencyStats leaseWait = new LatencyStats();
+
+    static {
+        // One hook drives both steps so the process reaper only sees what quit() left behind
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            shutdown();
+            DriverProcessTracker.reapAll();
+        }, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    /**
+     * Hands out a healthy session for the given browser, reusing a parked one when available.
+     * @param browserType browser name (chrome, firefox, edge); unknown values fall back to chrome
+     * @return a ready-to-use WebDriver leased to the caller
+     */
+    public static WebDriver lease(String browserType) {
+        String browser = normalize(browserType);
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = ENABLED ? takeParked(browser) : null;
+            boolean launched = false;
+            while (driver == null) {
+                ConcurrencyController.sampleNow();
+                if (BrowserBudget.tryAcquire(WARM_WAIT_SLICE_MS, TimeUnit.MILLISECONDS)) {
+                    driver = launchWithSlot(browser);
+                    launched = true;
+                } else if (ENABLED) {
+                    // Budget exhausted: wait for a session to be released, or free an idle one of another browser
+                    driver = takeParked(browser);
+                    if (driver == null) {
+                        evictIdleExcept(browser);
+                    }
+                }
+            }
+            try {
+                if (BrowserContextIsolation.open(driver)) {
+                    // The context's tab is not the one request blocking was installed in at launch
+                    NetworkBlocker.attachWindow(driver);
+                }
+            } catch (RuntimeException e) {
+                // Not leased yet, so quitting frees the budget slot and nothing stays behind in leased
+                discard(driver);
+                throw e;
+            }
+            (launched ? misses : hits).incrementAndGet();
+            leased.put(driver, browser);
+            return driver;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser slot", e);
+        } finally {
+            leaseWait.record(System.nanoTime() - start);
+            DriverWarmer.refill(browser);
+        }
+    }
+
+    /**
+     * Takes a healthy parked session, waiting for in-flight background launches when the pool is empty.
+     * @return parked session or null if none is available or coming
+     */
+    private static WebDriver takeParked(String browser) {
+        LinkedBlockingDeque<WebDriver> parked = idleFor(browser);
+        while (true) {
+            WebDriver candidate = parked.pollFirst();
+            if (candidate == null && DriverWarmer.isWarming(browser)) {
+                try {
+                    candidate = parked.pollFirst(WARM_WAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+                if (candidate == null) {
+                    continue;
+                }
+            }
+            if (candidate == null) {
+                return null;
+            }
+            if (isHealthy(candidate)) {
+                return candidate;
+            }
+            discard(candidate);
+        }
+    }
+
+    /**
+     * Returns a leased session to the pool. The test's browser context is removed, or the
+     * session is reset when it has none, before being parked; if that fails or the pool is
+     * full it is quit instead.
+     * @param driver session previously obtained from {@link #lease(String)}
+     */
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        String browser = leased.remove(driver);
+        if (!ENABLED || browser == null || idleCount() >= MAX_IDLE) {
+            quit(driver);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (!BrowserContextIsolation.close(driver)) {
+                reset(driver);
+            }
+        } catch (Exception e) {
+            System.out.println("Pooled session failed reset, discarding: " + e.getMessage());
+            discard(driver);
+            return;
+        }
+        resets.incrementAndGet();
+        resetNanos.addAndGet(System.nanoTime() - start);
+        idleFor(browser).offerFirst(driver);
+    }
+
+    /**
+     * Parks a freshly launched (not yet leased) session, e.g. from {@link DriverWarmer}.
+     * @param browser normalized browser type
+     * @param driver new session
+     */
+    static void park(String browser, WebDriver driver) {
+        if (!ENABLED || idleCount() >= MAX_IDLE) {
+            quit(driver);
+            return;
+        }
+        idleFor(browser).offerLast(driver);
+    }
+
+    /**
+     * Quits a session permanently (leased or not) without returning it to the pool.
+     * @param driver session to terminate
+     */
+    public static void discard(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        String browser = leased.remove(driver);
+        discards.incrementAndGet();
+        quit(driver);
+        if (browser != null) {
+            DriverWarmer.refill(browser);
+        }
+    }
+
+    /**
+     * Quits every parked session. Leased sessions are left to their owners.
+     */
+    public static void shutdown() {
+        List<WebDriver> drained = new ArrayList<>();
+        for (LinkedBlockingDeque<WebDriver> parked : idle.values()) {
+            parked.drainTo(drained);
+        }
+        for (WebDriver driver : drained) {
+            quit(driver);
+        }
+    }
+
+    /**
+     * @return one-line summary of pool usage: hits, misses, discards, reset time and launch time saved
+     */
+    public static String summary() {
+        long launched = launches.get();
+        long avgLaunchMs = launched == 0 ? 0 : launchNanos.get() / launched / 1_000_000;
+        long avgResetMs = resets.get() == 0 ? 0 : resetNanos.get() / resets.get() / 1_000_000;
+        long savedMs = hits.get() * Math.max(0, avgLaunchMs - avgResetMs);
+        return "DriverPool[hits=" + hits.get()
+                + ", misses=" + misses.get()
+                + ", launches=" + launched
+                + ", discards=" + discards.get()
+                + ", resets=" + resets.get()
+                + ", avgResetMs=" + avgResetMs
+                + ", avgLaunchMs=" + avgLaunchMs
+                + ", estimatedSavedMs=" + savedMs
+                + ", idle=" + idleCount()
+                + ", budget=" + BrowserBudget.getLive() + "/" + BrowserBudget.getLimit()
+                + ", leaseWait(" + leaseWait + ")]";
+    }
+
+    /** @return distribution of time tests waited for a browser */
+    public static LatencyStats getLeaseWait() {
+        return leaseWait;
+    }
+
+    /** @return number of sessions currently handed out */
+    static int leasedCount() {
+        return leased.size();
+    }
+
+    /** @return number of parked sessions for one browser */
+    static int idleCount(String browser) {
+        return idleFor(browser).size();
+    }
+
+    /** @return pool hit count (lease served by a parked session) */
+    public static long getHits() {
+        return hits.get();
+    }
+
+    /** @return pool miss count (lease required a fresh launch) */
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    /** @return total nanoseconds spent resetting sessions between tests */
+    public static long getResetNanos() {
+        return resetNanos.get();
+    }
+
+    /**
+     * Launches a session only if the browser budget has a free slot right now.
+     * Used for background pre-warming, which must never queue behind tests.
+     * @return new session, or null when the budget is exhausted
+     */
+    static WebDriver tryLaunch(String browser) {
+        if (!BrowserBudget.tryAcquire()) {
+            return null;
+        }
+        return launchWithSlot(browser);
+    }
+
+    /** Launches a new session (slot already held) and records its startup time. */
+    private static WebDriver launchWithSlot(String browser) {
+        long start = System.nanoTime();
+        WebDriver driver;
+        try {
+            driver = WebdriverUtil.createDriver(browser);
+        } catch (RuntimeException e) {
+            BrowserBudget.release();
+            throw e;
+        }
+        launches.incrementAndGet();
+        launchNanos.addAndGet(System.nanoTime() - start);
+        return driver;
+    }
+
+    /** Quits one parked session of a different browser type to free a budget slot. */
+    private static void evictIdleExcept(String browser) {
+        for (Map.Entry<String, LinkedBlockingDeque<WebDriver>> entry : idle.entrySet()) {
+            if (!entry.getKey().equals(browser)) {
+                WebDriver victim = entry.getValue().pollLast();
+                if (victim != null) {
+                    quit(victim);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Cheap liveness probe: a dead session or crashed browser throws here.
+     */
+    static boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Brings a session back to a neutral state: single window, no cookies, no web storage,
+     * blank page.
+     *
+     * <p>Web storage is origin-scoped. Each window clears the storage of the origin it shows
+     * before it is closed. On Chrome/Edge the persistent storage (local storage, IndexedDB,
+     * caches, service workers) of every origin in the windows' navigation history is also
+     * cleared through DevTools {@code Storage.clearDataForOrigin}. Other browsers only get
+     * the per-window clear; use {@code driver.isolation=context} for full isolation there.</p>
+     */
+    static void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        Set<String> origins = new LinkedHashSet<>();
+        for (String handle : handles) {
+            driver.switchTo().window(handle);
+            clearWindowStorage(driver, origins);
+            if (!handle.equals(keep)) {
+                driver.close();
+            }
+        }
+        driver.switchTo().window(keep);
+        clearOriginStorage(driver, origins);
+        driver.manage().deleteAllCookies();
+        driver.get("about:blank");
+    }
+
+    /** Clears the current window's storage and collects the origins it has visited. */
+    private static void clearWindowStorage(WebDriver driver, Set<String> origins) {
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); } catch (e) {}"
+                + "try { window.sessionStorage.clear(); } catch (e) {}");
+        if (!(driver instanceof ChromiumDriver)) {
+            return;
+        }
+        try {
+            Map<String, Object> history = ((ChromiumDriver) driver).executeCdpCommand("Page.getNavigationHistory", Map.of());
+            Object entries = history.get("entries");
+            if (entries instanceof List) {
+                for (Object entry : (List<?>) entries) {
+                    String origin = origin(String.valueOf(((Map<?, ?>) entry).get("url")));
+                    if (origin != null) {
+                        origins.add(origin);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Could not read navigation history: " + e.getMessage());
+        }
+    }
+
+    /** Clears the persistent storage of the given origins (Chrome/Edge only). */
+    private static void clearOriginStorage(WebDriver driver, Set<String> origins) {
+        if (!(driver instanceof ChromiumDriver)) {
+            return;
+        }
+        for (String origin : origins) {
+            ((ChromiumDriver) driver).executeCdpCommand("Storage.clearDataForOrigin",
+                    Map.of("origin", origin, "storageTypes", CLEARED_STORAGE_TYPES));
+        }
+    }
+
+    /** @return scheme://host[:port] of an http(s) URL, or null for other URLs */
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() == null || !("http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    static String normalize(String browserType) {
+        String browser = browserType == null ? "chrome" : browserType.trim().toLowerCase();
+        switch (browser) {
+            case "chrome":
+            case "firefox":
+            case "edge":
+                return browser;
+            default:
+                System.out.println("Unsupported browser type! Defaulting to Chrome.");
+                return "chrome";
+        }
+    }
+
+    private static LinkedBlockingDeque<WebDriver> idleFor(String browser) {
+        return idle.computeIfAbsent(browser, key -> new LinkedBlockingDeque<>());
+    }
+
+    private static int idleCount() {
+        int count = 0;
+        for (LinkedBlockingDeque<WebDriver> parked : idle.values()) {
+            count += parked.size();
+        }
+        return count;
+    }
+
+    private static void quit(WebDriver driver) {
+        BrowserContextIsolation.forget(driver);
+        NetworkBlocker.forget(driver);
+        try {
+            DriverProcessTracker.refresh(driver);
+            driver.quit();
+        } catch (Exception e) {
+            System.out.println("Error quitting WebDriver: " + e.getMessage());
+        } finally {
+            // Kill anything the quit left behind before handing the slot to another browser
+            DriverProcessTracker.reap(driver);
+            BrowserBudget.release();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package selenium.automation.framework.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+/**
+ * Tracks the driver/browser process tree behind every session and kills whatever outlives it.
+ *
+ * <p>When a session is launched the driver process (chromedriver, geckodriver, msedgedriver) is
+ * identified among this JVM's children by the port its {@link DriverService} listens on, and the
+ * browser processes below it are recorded. After {@code quit()} any recorded process still alive
+ * after a short exit grace period is destroyed and counted as a leak. The same reaping runs at
+ * JVM shutdown (from {@link DriverPool}'s shutdown hook, after the pool has quit its parked
+ * sessions) and from a periodic sweep, which also removes untracked driver processes left
+ * behind by this JVM.</p>
+ *
+ * <p>The driver process is found through its command line, which the OS does not always
+ * expose (e.g. on Windows). A session whose driver process could not be identified is counted
+ * as untracked, and the sweep is skipped while any such session is alive, so it never mistakes
+ * a running session for an orphan. Driver processes listening on the port of a live session's
+ * service are never swept either.</p>
+ *
+ * <p>Configuration: {@code process.sweepIntervalSec} (default 60, 0 disables the sweep).</p>
+ */
+public class DriverProcessTracker {
+
+    private static final String[] DRIVER_NAMES = { "chromedriver", "geckodriver", "msedgedriver" };
+    private static final Duration UNTRACKED_GRACE = Duration.ofMinutes(2);
+    private static final long KILL_WAIT_MS = 2000;
+    // Time a process may take to exit on its own after quit() before it counts as a leak
+    private static final long EXIT_GRACE_MS = 2000;
+
+    // Process tree per live session: driver process plus every descendant seen so far
+    private static final Map<WebDriver, Set<ProcessHandle>> trees = new ConcurrentHashMap<>();
+    // Driver process of every session still alive (used by the sweep to spot orphans)
+    private static final Map<WebDriver, ProcessHandle> roots = new ConcurrentHashMap<>();
+    // Port of every live session's driver service, tracked or not
+    private static final Map<WebDriver, Integer> ports = new ConcurrentHashMap<>();
+    // Live sessions whose driver process could not be identified
+    private static final Set<WebDriver> untracked = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong tracked = new AtomicLong();
+    private static final AtomicLong leaked = new AtomicLong();
+
+    private static ScheduledExecutorService sweeper;
+
+    private DriverProcessTracker() {
+    }
+
+    /**
+     * Records the process tree of a freshly launched session.
+     * @param driver the new session
+     * @param service driver service the session was started with
+     */
+    public static void track(WebDriver driver, DriverService service) {
+        ensureSweeping();
+        int port = service.getUrl().getPort();
+        ports.put(driver, port);
+        Optional<ProcessHandle> root = ProcessHandle.current().children()
+                .filter(process -> arguments(process).contains(portArgument(port)))
+                .findFirst();
+        if (root.isEmpty()) {
+            // Without its root the session cannot be told apart from an orphan; pause the sweep until it is gone
+            untracked.add(driver);
+            System.out.println("Could not identify driver process listening on " + service.getUrl()
+                    + "; process sweep paused while this session is alive");
+            return;
+        }
+        roots.put(driver, root.get());
+        Set<ProcessHandle> tree = ConcurrentHashMap.newKeySet();
+        tree.add(root.get());
+        trees.put(driver, tree);
+        tracked.incrementAndGet();
+        refresh(driver);
+    }
+
+    /**
+     * Re-reads the descendants of a session's driver process. Call right before quitting,
+     * while the tree is still attached to the driver process.
+     * @param driver tracked session
+     */
+    public static void refresh(WebDriver driver) {
+        ProcessHandle root = roots.get(driver);
+        Set<ProcessHandle> tree = trees.get(driver);
+        if (root != null && tree != null) {
+            root.descendants().forEach(tree::add);
+        }
+    }
+
+    /**
+     * Kills any process of the session's tree that survived {@code quit()} and stops tracking it.
+     * @param driver session that has just been quit
+     */
+    public static void reap(WebDriver driver) {
+        ports.remove(driver);
+        untracked.remove(driver);
+        roots.remove(driver);
+        Set<ProcessHandle> tree = trees.remove(driver);
+        if (tree != null) {
+            kill(tree);
+        }
+    }
+
+    /**
+     * Periodic sweep: kills driver processes of this JVM that belong to no live session
+     * and have been running longer than a short grace period. Skipped while a live session
+     * is untracked, since its driver process would look like an orphan.
+     */
+    static void sweep() {
+        if (!untracked.isEmpty()) {
+            return;
+        }
+        Set<ProcessHandle> live = roots.values().stream().collect(Collectors.toSet());
+        Set<String> livePorts = ports.values().stream().map(DriverProcessTracker::portArgument).collect(Collectors.toSet());
+        Instant cutoff = Instant.now().minus(UNTRACKED_GRACE);
+        List<ProcessHandle> orphans = new ArrayList<>();
+        ProcessHandle.current().children()
+                .filter(process -> isDriverProcess(process) && !live.contains(process))
+                .filter(process -> Collections.disjoint(arguments(process), livePorts))
+                .filter(process -> process.info().startInstant().map(start -> start.isBefore(cutoff)).orElse(true))
+                .forEach(process -> {
+                    process.descendants().forEach(orphans::add);
+                    orphans.add(process);
+                });
+        if (!orphans.isEmpty()) {
+            System.out.println("Process sweep: reaping " + orphans.size() + " orphaned driver/browser processes");
+            kill(orphans);
+        }
+    }
+
+    /** @return one-line summary: sessions tracked, processes leaked (killed after quit) */
+    public static String summary() {
+        return "DriverProcesses[tracked=" + tracked.get() + ", untracked=" + untracked.size()
+                + ", leaked=" + leaked.get() + ", live=" + roots.size() + "]";
+    }
+
+    /** @return number of processes that had to be killed because they outlived their session */
+    public static long getLeakCount() {
+        return leaked.get();
+    }
+
+    /**
+     * Kills the process trees of all sessions still tracked. Run at JVM shutdown by
+     * {@link DriverPool} once it has quit its parked sessions.
+     */
+    static void reapAll() {
+        List<ProcessHandle> all = new ArrayList<>();
+        for (WebDriver driver : new ArrayList<>(trees.keySet())) {
+            refresh(driver);
+            Set<ProcessHandle> tree = trees.remove(driver);
+            roots.remove(driver);
+            ports.remove(driver);
+            if (tree != null) {
+                all.addAll(tree);
+            }
+        }
+        kill(all);
+    }
+
+    /**
+     * Gives processes a short grace period to exit on their own, then destroys the survivors
+     * gracefully and finally forcibly; each survivor of the grace period counts as one leak.
+     */
+    private static void kill(Iterable<ProcessHandle> processes) {
+        List<ProcessHandle> alive = new ArrayList<>();
+        for (ProcessHandle process : processes) {
+            if (process.isAlive()) {
+                alive.add(process);
+            }
+        }
+        // A browser still shutting down right after quit() is not a leak
+        awaitExit(alive, EXIT_GRACE_MS);
+        alive.removeIf(process -> !process.isAlive());
+        if (alive.isEmpty()) {
+            return;
+        }
+        leaked.addAndGet(alive.size());
+        alive.forEach(ProcessHandle::destroy);
+        awaitExit(alive, KILL_WAIT_MS);
+        for (ProcessHandle process : alive) {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /** Waits until every process has exited or the timeout has passed. */
+    private static void awaitExit(List<ProcessHandle> processes, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (ProcessHandle process : processes) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                process.onExit().get(remaining, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // timed out; the caller checks which processes are still alive
+            }
+        }
+    }
+
+    private static synchronized void ensureSweeping() {
+        int interval = ConfigManager.getIntProperty("process.sweepIntervalSec", 60);
+        if (sweeper != null || interval <= 0) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-process-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                System.out.println("Process sweep failed: " + e.getMessage());
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private static boolean isDriverProcess(ProcessHandle process) {
+        String command = process.info().command().orElse("").toLowerCase();
+        for (String name : DRIVER_NAMES) {
+            if (command.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String portArgument(int port) {
+        return "--port=" + port;
+    }
+
+    /** Whole arguments of a process, so {@code --port=9515} never matches {@code --port=95151}. */
+    private static List<String> arguments(ProcessHandle process) {
+        ProcessHandle.Info info = process.info();
+        Optional<String[]> arguments = info.arguments();
+        if (arguments.isPresent()) {
+            return Arrays.asList(arguments.get());
+        }
+        String commandLine = info.commandLine().orElse("").trim();
+        return commandLine.isEmpty() ? List.of() : Arrays.asList(commandLine.split("\\s+"));
+    }
+}
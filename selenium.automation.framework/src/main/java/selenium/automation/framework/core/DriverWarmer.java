@@ -0,0 +1,115 @@
+package selenium.automation.framework.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Background launcher that keeps warm sessions parked in {@link DriverPool} ahead of demand.
+ *
+ * <p>Started once per suite with the planned peak number of concurrent browsers (derived from
+ * testng.xml by the caller). It launches sessions on a small executor so the first test on each
+ * worker thread, and tests that follow a discarded session, find a ready browser instead of
+ * paying the launch cost inline. The pool asks the warmer to top up after every lease and
+ * discard; the number kept idle never exceeds the remaining planned demand.</p>
+ *
+ * <p>Configuration (config.properties):</p>
+ * <ul>
+ *   <li>{@code driver.warm.enabled} - turn pre-warming on/off (default true)</li>
+ *   <li>{@code driver.warm.threads} - concurrent background launches (default 2)</li>
+ *   <li>{@code driver.warm.buffer} - max idle sessions to keep ready (default: planned peak)</li>
+ * </ul>
+ */
+public class DriverWarmer {
+
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("driver.warm.enabled", true);
+    private static final int THREADS = ConfigManager.getIntProperty("driver.warm.threads", 2);
+
+    private static volatile ExecutorService executor;
+    private static volatile String browser;
+    private static int plannedPeak;
+    private static int buffer;
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger launched = new AtomicInteger();
+
+    private DriverWarmer() {
+    }
+
+    /**
+     * Starts pre-warming for the suite. Subsequent calls are ignored until {@link #stop()}.
+     * @param browserType browser that tests will request
+     * @param plannedConcurrency peak number of browsers the suite can use at once
+     */
+    public static synchronized void start(String browserType, int plannedConcurrency) {
+        if (!ENABLED || executor != null || plannedConcurrency <= 0) {
+            return;
+        }
+        ConcurrencyController.ensureStarted();
+        browser = DriverPool.normalize(browserType);
+        // Never plan for more browsers than the global budget allows
+        plannedPeak = Math.min(plannedConcurrency, BrowserBudget.getLimit());
+        buffer = ConfigManager.getIntProperty("driver.warm.buffer", plannedPeak);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "driver-warmer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        System.out.println("Driver warmer started: browser=" + browser + ", plannedPeak=" + plannedPeak
+                + ", buffer=" + buffer + ", threads=" + THREADS);
+        refill(browser);
+    }
+
+    /**
+     * Tops the pool up to the warm buffer. Called by the pool after leases and discards.
+     * @param browserType normalized browser type whose demand changed
+     */
+    static synchronized void refill(String browserType) {
+        if (executor == null || !browserType.equals(browser)) {
+            return;
+        }
+        int remainingDemand = plannedPeak - DriverPool.leasedCount();
+        int wanted = Math.min(buffer, remainingDemand) - DriverPool.idleCount(browser) - inFlight.get();
+        for (int i = 0; i < wanted; i++) {
+            inFlight.incrementAndGet();
+            executor.submit(DriverWarmer::warmOne);
+        }
+    }
+
+    /**
+     * @param browserType normalized browser type
+     * @return true if a background launch for this browser is still running
+     */
+    static boolean isWarming(String browserType) {
+        return executor != null && browserType.equals(browser) && inFlight.get() > 0;
+    }
+
+    /**
+     * Stops background launches. Sessions already parked stay in the pool.
+     */
+    public static synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+            System.out.println("Driver warmer stopped: " + launched.get() + " sessions pre-launched");
+        }
+    }
+
+    private static void warmOne() {
+        String target = browser;
+        try {
+            WebDriver driver = DriverPool.tryLaunch(target);
+            if (driver == null) {
+                return; // budget exhausted; tests get priority over warming
+            }
+            launched.incrementAndGet();
+            DriverPool.park(target, driver);
+        } catch (Exception e) {
+            System.out.println("Background browser launch failed: " + e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package selenium.automation.framework.core;
+
+import org.openqa.selenium.By;
+
+/**
+ * DOM condition that is evaluated inside the page rather than polled from Java.
+ *
+ * <p>Used with {@link WaitEngine#untilInPage(org.openqa.selenium.WebDriver, WaitEngine.Span, InPageCondition)}:
+ * the condition is shipped to the browser in one async script, which re-checks it on every
+ * DOM mutation and animation frame and answers as soon as it holds. Locators must be id, name,
+ * class name, CSS, XPath or tag name locators, which can be resolved in the page.</p>
+ */
+public final class InPageCondition {
+
+    /**
+     * JavaScript function {@code find(using, value)} returning the elements matching a
+     * WebDriver locator strategy ("css selector", "tag name" or "xpath") in document order.
+     */
+    public static final String FIND_FUNCTION =
+            "function find(using, value) {"
+            + "  if (using === 'css selector') { return Array.prototype.slice.call(document.querySelectorAll(value)); }"
+            + "  if (using === 'tag name') { return Array.prototype.slice.call(document.getElementsByTagName(value)); }"
+            + "  var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "  var found = [];"
+            + "  for (var i = 0; i < snapshot.snapshotLength; i++) {"
+            + "    if (snapshot.snapshotItem(i).nodeType === 1) { found.push(snapshot.snapshotItem(i)); }"
+            + "  }"
+            + "  return found;"
+            + "}";
+
+    // Evaluates the condition; arguments: using, value, mode, expected
+    static final String CHECK_FUNCTION = FIND_FUNCTION
+            + "function visible(element) {"
+            + "  var style = window.getComputedStyle(element);"
+            + "  return style.display !== 'none' && style.visibility !== 'hidden' && style.opacity !== '0'"
+            + "      && element.getClientRects().length > 0;"
+            + "}"
+            + "function check(using, value, mode, expected) {"
+            + "  var elements = find(using, value);"
+            + "  switch (mode) {"
+            + "    case 'present': return elements.length > 0;"
+            + "    case 'absent': return elements.length === 0;"
+            + "    case 'visible': return elements.length > 0 && visible(elements[0]);"
+            + "    case 'hidden': return elements.length === 0 || !visible(elements[0]);"
+            + "    case 'countBelow': return elements.length < expected;"
+            + "  }"
+            + "  return false;"
+            + "}";
+
+    private final String mode;
+    private final String using;
+    private final String value;
+    private final int expected;
+    private final By locator;
+
+    private InPageCondition(String mode, By locator, int expected) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String strategy = parameters.using();
+        if (!"css selector".equals(strategy) && !"xpath".equals(strategy) && !"tag name".equals(strategy)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        this.mode = mode;
+        this.using = strategy;
+        this.value = String.valueOf(parameters.value());
+        this.expected = expected;
+        this.locator = locator;
+    }
+
+    /** @return condition that holds once an element matches the locator */
+    public static InPageCondition present(By locator) {
+        return new InPageCondition("present", locator, 0);
+    }
+
+    /** @return condition that holds once no element matches the locator */
+    public static InPageCondition absent(By locator) {
+        return new InPageCondition("absent", locator, 0);
+    }
+
+    /** @return condition that holds once the first match is rendered visible */
+    public static InPageCondition visible(By locator) {
+        return new InPageCondition("visible", locator, 0);
+    }
+
+    /** @return condition that holds once the first match is hidden or gone */
+    public static InPageCondition hidden(By locator) {
+        return new InPageCondition("hidden", locator, 0);
+    }
+
+    /**
+     * @param locator element locator
+     * @param count element count to drop below
+     * @return condition that holds once fewer than {@code count} elements match
+     */
+    public static InPageCondition countBelow(By locator, int count) {
+        return new InPageCondition("countBelow", locator, count);
+    }
+
+    /** @return script arguments after the timeout: using, value, mode, expected */
+    Object[] arguments(long timeoutMillis) {
+        return new Object[] { timeoutMillis, using, value, mode, expected };
+    }
+
+    /** @return synchronous single-check script for the polling fallback */
+    String checkScript() {
+        return CHECK_FUNCTION + "return check(arguments[0], arguments[1], arguments[2], arguments[3]);";
+    }
+
+    /** @return arguments of {@link #checkScript()} */
+    Object[] checkArguments() {
+        return new Object[] { using, value, mode, expected };
+    }
+
+    @Override
+    public String toString() {
+        return "in-page " + mode + ("countBelow".equals(mode) ? " " + expected : "") + " " + locator;
+    }
+}
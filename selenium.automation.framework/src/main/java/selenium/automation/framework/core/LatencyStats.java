@@ -0,0 +1,57 @@
+package selenium.automation.framework.core;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe recorder of durations (milliseconds) with percentile reporting.
+ * Keeps every sample; suites record at most a few thousand, so memory is negligible.
+ */
+public class LatencyStats {
+
+    private long[] samples = new long[64];
+    private int count;
+    private long total;
+
+    /**
+     * Records one duration.
+     * @param nanos elapsed time in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        long millis = nanos / 1_000_000;
+        samples[count++] = millis;
+        total += millis;
+    }
+
+    /** @return number of recorded samples */
+    public synchronized int count() {
+        return count;
+    }
+
+    /** @return sum of all samples in milliseconds */
+    public synchronized long totalMillis() {
+        return total;
+    }
+
+    /**
+     * Nearest-rank percentile.
+     * @param percentile value between 0 and 100
+     * @return percentile in milliseconds, 0 when nothing was recorded
+     */
+    public synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.min(count, Math.max(1, rank)) - 1];
+    }
+
+    @Override
+    public String toString() {
+        return "n=" + count() + ", p50=" + percentile(50) + "ms, p99=" + percentile(99) + "ms, max=" + percentile(100) + "ms";
+    }
+}
@@ -0,0 +1,201 @@
+package selenium.automation.framework.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Named browser launch profile read from config.properties.
+ *
+ * <p>The active profile is selected with {@code -Dlaunch.profile=<name>} or the
+ * {@code launch.profile} property and defaults to {@code visual}. Each setting is read
+ * from {@code profile.<name>.<setting>}:</p>
+ * <ul>
+ *   <li>{@code headless} - run without a visible window</li>
+ *   <li>{@code pageLoadStrategy} - normal, eager or none</li>
+ *   <li>{@code windowSize} - WIDTHxHEIGHT, or {@code maximized}</li>
+ *   <li>{@code blockImages} / {@code blockFonts} - skip image and web-font downloads</li>
+ *   <li>{@code disableExtensions} / {@code disableBackgroundNetworking} - trim browser background work</li>
+ * </ul>
+ * The window size is applied once at launch, so page objects never resize the window.
+ */
+public class LaunchProfile {
+
+    private static final int DEFAULT_WIDTH = 1920;
+    private static final int DEFAULT_HEIGHT = 1080;
+
+    private static volatile LaunchProfile active;
+
+    private final String name;
+    private final boolean headless;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final boolean maximized;
+    private final int width;
+    private final int height;
+    private final boolean blockImages;
+    private final boolean blockFonts;
+    private final boolean disableExtensions;
+    private final boolean disableBackgroundNetworking;
+
+    private LaunchProfile(String name) {
+        this.name = name;
+        this.headless = ConfigManager.getBooleanProperty(key("headless"), false);
+        this.pageLoadStrategy = PageLoadStrategy.fromString(
+                ConfigManager.getProperty(key("pageLoadStrategy"), "normal").toLowerCase());
+        String windowSize = ConfigManager.getProperty(key("windowSize"), "maximized");
+        int[] size = parseSize(windowSize);
+        this.maximized = size == null;
+        this.width = size == null ? DEFAULT_WIDTH : size[0];
+        this.height = size == null ? DEFAULT_HEIGHT : size[1];
+        this.blockImages = ConfigManager.getBooleanProperty(key("blockImages"), false);
+        this.blockFonts = ConfigManager.getBooleanProperty(key("blockFonts"), false);
+        this.disableExtensions = ConfigManager.getBooleanProperty(key("disableExtensions"), false);
+        this.disableBackgroundNetworking = ConfigManager.getBooleanProperty(key("disableBackgroundNetworking"), false);
+    }
+
+    /**
+     * Resolves the active profile once per JVM.
+     * @return profile selected by system property or config
+     */
+    public static LaunchProfile active() {
+        if (active == null) {
+            synchronized (LaunchProfile.class) {
+                if (active == null) {
+                    String name = System.getProperty("launch.profile",
+                            ConfigManager.getProperty("launch.profile", "visual"));
+                    active = new LaunchProfile(name);
+                    System.out.println("Launch profile: " + active);
+                }
+            }
+        }
+        return active;
+    }
+
+    /** @return profile name, e.g. fast-ci */
+    public String getName() {
+        return name;
+    }
+
+    /** @return true if browsers run headless under this profile */
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /** @return Chrome options for this profile */
+    public ChromeOptions chromeOptions() {
+        return applyChromium(new ChromeOptions());
+    }
+
+    /** @return Edge options for this profile (same Chromium switches as Chrome) */
+    public EdgeOptions edgeOptions() {
+        return applyChromium(new EdgeOptions());
+    }
+
+    /** @return Firefox options for this profile */
+    public FirefoxOptions firefoxOptions() {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("-headless");
+        }
+        if (!maximized || headless) {
+            options.addArguments("--width=" + width, "--height=" + height);
+        }
+        if (blockImages) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (blockFonts) {
+            options.addPreference("gfx.downloadable_fonts.enabled", false);
+        }
+        if (disableExtensions) {
+            options.addPreference("extensions.enabledScopes", 0);
+            options.addPreference("xpinstall.enabled", false);
+        }
+        if (disableBackgroundNetworking) {
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("network.dns.disablePrefetch", true);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("browser.safebrowsing.malware.enabled", false);
+            options.addPreference("browser.safebrowsing.phishing.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+        }
+        return options;
+    }
+
+    /**
+     * Maximizes the window right after launch for headed profiles that ask for it.
+     * Firefox ignores start-up maximize switches, so this is done once through WebDriver.
+     * @param driver freshly launched session
+     */
+    public void applyWindow(WebDriver driver) {
+        if (maximized && !headless) {
+            driver.manage().window().maximize();
+        }
+    }
+
+    private <T extends ChromiumOptions<?>> T applyChromium(T options) {
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (maximized && !headless) {
+            options.addArguments("--start-maximized");
+        } else {
+            options.addArguments("--window-size=" + width + "," + height);
+        }
+        Map<String, Object> prefs = new HashMap<>();
+        if (blockImages) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        if (blockFonts) {
+            options.addArguments("--disable-remote-fonts");
+        }
+        if (disableExtensions) {
+            options.addArguments("--disable-extensions", "--disable-component-extensions-with-background-pages");
+        }
+        if (disableBackgroundNetworking) {
+            options.addArguments("--disable-background-networking", "--disable-sync",
+                    "--disable-default-apps", "--disable-component-update", "--no-first-run");
+        }
+        if (!prefs.isEmpty()) {
+            options.setExperimentalOption("prefs", prefs);
+        }
+        return options;
+    }
+
+    private String key(String setting) {
+        return "profile." + name + "." + setting;
+    }
+
+    /** Parses WIDTHxHEIGHT; returns null for "maximized" or unparsable values. */
+    private static int[] parseSize(String value) {
+        String[] parts = value.toLowerCase().split("x");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            return new int[] { Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + "[headless=" + headless
+                + ", pageLoad=" + pageLoadStrategy
+                + ", window=" + (maximized ? "maximized" : width + "x" + height)
+                + ", blockImages=" + blockImages
+                + ", blockFonts=" + blockFonts
+                + ", disableExtensions=" + disableExtensions
+                + ", disableBackgroundNetworking=" + disableBackgroundNetworking + "]";
+    }
+}
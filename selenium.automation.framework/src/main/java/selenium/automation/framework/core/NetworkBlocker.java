@@ -0,0 +1,263 @@
+package selenium.automation.framework.core;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.bidi.network.UrlPattern;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Blocks ad and third-party requests in every browser launched by {@link WebdriverUtil}.
+ *
+ * <p>The target shop embeds Google ad iframes that slow down page loads and sit on top of
+ * buttons. Requests whose host matches a blocked glob, or whose resource type is blocked,
+ * are failed before they leave the browser:</p>
+ * <ul>
+ *   <li>Chrome/Edge: DevTools {@code Fetch} interception limited to the blocked patterns, so
+ *       every other request goes through untouched</li>
+ *   <li>Firefox: a BiDi {@code beforeRequestSent} intercept limited to the blocked hosts.
+ *       BiDi URL patterns match host names exactly, so a glob {@code *.example.com} only covers
+ *       example.com there: list the subdomains to block on Firefox explicitly. Resource types are
+ *       not exposed there, use the launch profile's blockImages/blockFonts</li>
+ * </ul>
+ * Blocked requests are counted per browser and host; {@link #drain(WebDriver)} hands the
+ * counts of the last test to the report.
+ *
+ * <p>On Chrome/Edge the {@code Fetch} interception only covers the tab the session started
+ * with. Tabs the framework opens later (per-test browser contexts of
+ * {@link BrowserContextIsolation}, multiplexed tabs of {@link TabMultiplexer} and windows those
+ * tabs switch to) get the host globs through {@link #attachWindow(WebDriver)}, which uses
+ * DevTools {@code Network.setBlockedURLs}: resource types are not blocked there and blocked
+ * requests are not counted. Windows a test opens on a plain driver and switches to itself
+ * are not blocked on Chrome/Edge. Firefox's intercept covers every tab of the session.</p>
+ *
+ * <p>Configuration (config.properties): {@code network.block.enabled},
+ * {@code network.block.hosts} (comma-separated globs, e.g. {@code *.doubleclick.net}) and
+ * {@code network.block.resourceTypes} (DevTools types, e.g. {@code Image,Font,Media}).</p>
+ */
+public class NetworkBlocker {
+
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("network.block.enabled", true);
+    private static final List<String> HOST_GLOBS = list(ConfigManager.getProperty("network.block.hosts", ""));
+    private static final List<String> RESOURCE_TYPES = list(ConfigManager.getProperty("network.block.resourceTypes", ""));
+    private static final List<String> URL_PATTERNS = urlPatterns(HOST_GLOBS);
+    private static final List<UrlPattern> BIDI_URL_PATTERNS = bidiUrlPatterns(HOST_GLOBS);
+
+    // Blocked request count per host, per browser session
+    private static final Map<WebDriver, Map<String, Integer>> blocked = new ConcurrentHashMap<>();
+    private static final AtomicLong totalBlocked = new AtomicLong();
+
+    private NetworkBlocker() {
+    }
+
+    /** @return true if a blocklist is configured and blocking is on */
+    public static boolean isEnabled() {
+        return ENABLED && (!HOST_GLOBS.isEmpty() || !RESOURCE_TYPES.isEmpty());
+    }
+
+    /**
+     * Requests a BiDi connection for Firefox launches, which blocking needs there.
+     * @param options browser options about to be used for a launch
+     * @return the same options
+     */
+    static <T extends MutableCapabilities> T prepare(T options) {
+        if (isEnabled() && options instanceof FirefoxOptions) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
+    /**
+     * Installs the blocklist on a freshly launched session. Failures are logged and the
+     * session is used unblocked.
+     * @param driver new session
+     */
+    static void attach(WebDriver driver) {
+        if (!isEnabled()) {
+            return;
+        }
+        blocked.put(driver, new ConcurrentHashMap<>());
+        try {
+            if (driver instanceof ChromiumDriver) {
+                attachDevTools((ChromiumDriver) driver);
+            } else if (driver instanceof FirefoxDriver) {
+                attachBiDi(driver);
+            }
+        } catch (Exception e) {
+            System.out.println("Request blocking not attached: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Installs the host blocklist in the session's current window, for tabs opened after
+     * launch (Chrome/Edge only; see class doc). Failures are logged and the window is used
+     * unblocked.
+     * @param driver launched session (not a multiplexed tab's driver), switched to the new window
+     */
+    static void attachWindow(WebDriver driver) {
+        if (!isEnabled() || URL_PATTERNS.isEmpty() || !(driver instanceof ChromiumDriver) || !blocked.containsKey(driver)) {
+            return;
+        }
+        try {
+            ChromiumDriver chromium = (ChromiumDriver) driver;
+            chromium.executeCdpCommand("Network.enable", Map.of());
+            chromium.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", URL_PATTERNS));
+        } catch (Exception e) {
+            System.out.println("Request blocking not attached to new window: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the requests blocked since the last call for the given driver and resets them.
+     * For a multiplexed tab the counts cover its whole shared browser.
+     * @param driver test driver (plain or multiplexed tab)
+     * @return blocked request count per host, most blocked first; empty when nothing was blocked
+     */
+    public static Map<String, Integer> drain(WebDriver driver) {
+        Map<String, Integer> counts = driver == null ? null : blocked.get(TabMultiplexer.hostOf(driver));
+        if (counts == null || counts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> snapshot = new TreeMap<>();
+        for (String host : new ArrayList<>(counts.keySet())) {
+            Integer count = counts.remove(host);
+            if (count != null) {
+                snapshot.put(host, count);
+            }
+        }
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(snapshot.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+
+    /**
+     * Stops counting for a session that is being quit.
+     * @param driver session being quit
+     */
+    static void forget(WebDriver driver) {
+        blocked.remove(driver);
+    }
+
+    /** @return one-line summary of blocked requests for the run */
+    public static String summary() {
+        return "NetworkBlocker[enabled=" + isEnabled() + ", blocked=" + totalBlocked.get()
+                + ", hosts=" + HOST_GLOBS.size() + ", resourceTypes=" + RESOURCE_TYPES + "]";
+    }
+
+    private static void attachDevTools(ChromiumDriver driver) {
+        DevTools devTools = driver.getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String urlPattern : URL_PATTERNS) {
+            patterns.add(Map.of("urlPattern", urlPattern, "requestStage", "Request"));
+        }
+        for (String type : RESOURCE_TYPES) {
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type, "requestStage", "Request"));
+        }
+        Event<Map<String, Object>> requestPaused = new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+        devTools.addListener(requestPaused, event -> {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> request = (Map<String, Object>) event.get("request");
+            count(driver, String.valueOf(request.get("url")));
+            devTools.send(new Command<Void>("Fetch.failRequest",
+                    Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+        });
+        devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", patterns)));
+    }
+
+    private static void attachBiDi(WebDriver driver) {
+        if (BIDI_URL_PATTERNS.isEmpty()) {
+            return;
+        }
+        Network network = new Network(driver);
+        // Only requests to blocked hosts are paused, so every one that arrives here is failed
+        network.onBeforeRequestSent(event -> {
+            if (event.isBlocked()) {
+                count(driver, event.getRequest().getUrl());
+                network.failRequest(event.getRequest().getRequestId());
+            }
+        });
+        network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT)
+                .urlPatterns(BIDI_URL_PATTERNS));
+    }
+
+    private static void count(WebDriver driver, String url) {
+        totalBlocked.incrementAndGet();
+        Map<String, Integer> counts = blocked.get(driver);
+        if (counts != null) {
+            counts.merge(host(url), 1, Integer::sum);
+        }
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? url : host;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /** Converts host globs to DevTools URL patterns; {@code *.example.com} also covers example.com. */
+    private static List<String> urlPatterns(List<String> globs) {
+        List<String> patterns = new ArrayList<>();
+        for (String glob : globs) {
+            patterns.add("*://" + glob + "/*");
+            if (glob.startsWith("*.")) {
+                patterns.add("*://" + glob.substring(2) + "/*");
+            }
+        }
+        return patterns;
+    }
+
+    /**
+     * Converts host globs to BiDi URL patterns, which match host names exactly:
+     * {@code *.example.com} becomes example.com, globs with other wildcards are skipped.
+     */
+    private static List<UrlPattern> bidiUrlPatterns(List<String> globs) {
+        List<String> hosts = new ArrayList<>();
+        for (String glob : globs) {
+            String host = glob.startsWith("*.") ? glob.substring(2) : glob;
+            if (!host.contains("*") && !hosts.contains(host)) {
+                hosts.add(host);
+            }
+        }
+        List<UrlPattern> patterns = new ArrayList<>();
+        for (String host : hosts) {
+            patterns.add(new UrlPattern().hostname(host));
+        }
+        return patterns;
+    }
+
+    private static List<String> list(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,235 @@
+package selenium.automation.framework.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+
+/**
+ * HTTP client for the shop's public account API, used for test setup and teardown.
+ *
+ * <p>Creating, checking and deleting an account through the browser takes a login page, a
+ * multi-step form and several page loads. Tests that do not exercise those screens call the
+ * API instead ({@code POST createAccount}, {@code POST verifyLogin}, {@code DELETE deleteAccount}),
+ * which takes one request each. All clients share one JDK {@link HttpClient}, which keeps
+ * connections to each host alive and reuses them across calls and threads.</p>
+ *
+ * <p>The API answers HTTP 200 with a JSON body whose {@code responseCode} carries the real
+ * status (201 created, 200 ok, 400 already exists, 404 not found). Transport failures surface
+ * as {@link UncheckedIOException}.</p>
+ *
+ * <p>Configuration (config.properties):</p>
+ * <ul>
+ *   <li>{@code api.baseUrl} - API root (default: {@code HomePageURL} + {@code api/})</li>
+ *   <li>{@code api.timeoutMs} - connect and request timeout (default 10000)</li>
+ * </ul>
+ */
+public class ShopApiClient {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(ConfigManager.getIntProperty("api.timeoutMs", 10000));
+
+    // One client for the whole run: it owns the per-host connection pool
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private static final Json JSON = new Json();
+
+    private static final LatencyStats callTimes = new LatencyStats();
+    private static final AtomicLong failures = new AtomicLong();
+
+    private static volatile ShopApiClient defaultClient;
+
+    private final URI baseUri;
+    private final boolean journal;
+
+    /**
+     * @param baseUrl API root, e.g. https://automationexercise.com/api/
+     */
+    public ShopApiClient(String baseUrl) {
+        this(baseUrl, false);
+    }
+
+    private ShopApiClient(String baseUrl, boolean journal) {
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.journal = journal;
+    }
+
+    /** @return client for the configured shop; accounts it creates are journaled for cleanup */
+    public static ShopApiClient getDefault() {
+        if (defaultClient == null) {
+            synchronized (ShopApiClient.class) {
+                if (defaultClient == null) {
+                    String home = ConfigManager.getProperty("HomePageURL", "https://automationexercise.com/");
+                    defaultClient = new ShopApiClient(ConfigManager.getProperty("api.baseUrl",
+                            URI.create(home).resolve("/api/").toString()), true);
+                }
+            }
+        }
+        return defaultClient;
+    }
+
+    /**
+     * Registers an account.
+     * @param name display name entered on the first signup step
+     * @param email account email
+     * @param details account and address details (date of birth as year-month-day)
+     * @return the API's answer; {@link Response#isCreated()} if the account was registered
+     */
+    public Response createAccount(String name, String email, AccountDetails details) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("name", name);
+        form.put("email", email);
+        form.put("password", details.password());
+        form.put("title", details.title());
+        if (details.dateOfBirth() != null) {
+            String[] dob = details.dateOfBirth().split("-");
+            form.put("birth_year", dob[0]);
+            form.put("birth_month", String.valueOf(Integer.parseInt(dob[1])));
+            form.put("birth_date", String.valueOf(Integer.parseInt(dob[2])));
+        }
+        form.put("firstname", details.firstName());
+        form.put("lastname", details.lastName());
+        form.put("company", details.company());
+        form.put("address1", details.address1());
+        form.put("address2", details.address2());
+        form.put("country", details.country());
+        form.put("state", details.state());
+        form.put("city", details.city());
+        form.put("zipcode", details.zipcode());
+        form.put("mobile_number", details.mobileNumber());
+        Response response = call("POST", "createAccount", form);
+        if (response.isCreated() && journal) {
+            AccountJournal.record(email, details.password());
+        }
+        return response;
+    }
+
+    /**
+     * @param email account email
+     * @param password account password
+     * @return true if an account with these credentials exists
+     */
+    public boolean verifyLogin(String email, String password) {
+        return call("POST", "verifyLogin", credentials(email, password)).isOk();
+    }
+
+    /**
+     * @param email account email
+     * @param password account password
+     * @return true if the account was deleted; false if no account has these credentials
+     */
+    public boolean deleteAccount(String email, String password) {
+        return call("DELETE", "deleteAccount", credentials(email, password)).isOk();
+    }
+
+    /**
+     * Makes sure an account with these credentials exists, registering it if needed.
+     * @param name display name used if the account is created
+     * @param email account email
+     * @param details account details; the password is taken from here
+     * @return true if the account was created by this call, false if it already existed
+     * @throws IllegalStateException if the account neither exists nor could be created
+     */
+    public boolean ensureAccount(String name, String email, AccountDetails details) {
+        if (verifyLogin(email, details.password())) {
+            return false;
+        }
+        Response created = createAccount(name, email, details);
+        if (!created.isCreated()) {
+            throw new IllegalStateException("Could not create account " + email + ": " + created);
+        }
+        return true;
+    }
+
+    /** @return one-line summary of API calls made in the run */
+    public static String summary() {
+        return "ShopApiClient[calls=" + callTimes.count() + ", failures=" + failures.get()
+                + ", latency=" + callTimes + "]";
+    }
+
+    private static Map<String, String> credentials(String email, String password) {
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("email", email);
+        form.put("password", password);
+        return form;
+    }
+
+    private Response call(String method, String path, Map<String, String> form) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .method(method, HttpRequest.BodyPublishers.ofString(encode(form)))
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+            callTimes.record(System.nanoTime() - start);
+            Response parsed = Response.parse(response.statusCode(), response.body());
+            System.out.println("API " + method + " " + path + " -> " + parsed);
+            return parsed;
+        } catch (IOException e) {
+            failures.incrementAndGet();
+            throw new UncheckedIOException(method + " " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            failures.incrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + method + " " + request.uri(), e);
+        }
+    }
+
+    private static String encode(Map<String, String> form) {
+        StringJoiner body = new StringJoiner("&");
+        form.forEach((key, value) -> {
+            if (value != null) {
+                body.add(URLEncoder.encode(key, StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(value, StandardCharsets.UTF_8));
+            }
+        });
+        return body.toString();
+    }
+
+    /** Outcome of an API call: the {@code responseCode} and {@code message} of the JSON body. */
+    public record Response(int responseCode, String message) {
+
+        /** @return true for responseCode 200 */
+        public boolean isOk() {
+            return responseCode == 200;
+        }
+
+        /** @return true for responseCode 201 */
+        public boolean isCreated() {
+            return responseCode == 201;
+        }
+
+        static Response parse(int httpStatus, String body) {
+            try {
+                Map<String, Object> json = JSON.toType(body, Json.MAP_TYPE);
+                if (json == null) {
+                    return new Response(httpStatus, "");
+                }
+                Object code = json.get("responseCode");
+                return new Response(code instanceof Number ? ((Number) code).intValue() : httpStatus,
+                        String.valueOf(json.get("message")));
+            } catch (JsonException | ClassCastException e) {
+                // Not the API's JSON (proxy or error page); keep the HTTP status
+                return new Response(httpStatus, body == null ? "" : body.strip());
+            }
+        }
+    }
+}
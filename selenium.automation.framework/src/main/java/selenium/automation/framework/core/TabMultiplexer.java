@@ -0,0 +1,350 @@
+package selenium.automation.framework.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+/**
+ * Runs several independent tests in separate tabs of one browser session.
+ *
+ * <p>Each multiplexed test gets a {@link WebDriver} bound to its own tab. Every command sent
+ * through it (including commands on elements, navigation, options and switchTo) takes the
+ * host session's lock, switches the session to the test's tab if another tab was active,
+ * and runs. The lock is held for one command only, so while one test sits in an explicit
+ * wait, a sleep or its own Java code, the other tabs keep issuing commands on the same
+ * browser. In-page waits of {@link WaitEngine} poll on tabs instead of blocking in an async
+ * script, so they release the lock between checks as well.</p>
+ *
+ * <p>Page loads are serialized: the driver runs one command per session at a time, so a
+ * {@code driver.get}, a click that loads a page or an implicit-wait lookup holds the browser,
+ * and every other tab of it, until it returns. Multiplexing pays off for tests that spend their
+ * time between commands, not for tests dominated by page loads.</p>
+ *
+ * <p>Window handling follows the test's view: {@code switchTo().window(..)} and
+ * {@code newWindow(..)} make the target the tab's current window, and after {@code close()}
+ * the tab falls back to its home window (or another window it still owns) instead of having
+ * no current window.</p>
+ *
+ * <p>Each tab gets a BiDi user context of its own (see {@link BrowserContextIsolation}), so
+ * tests keep their own cookies and storage. If the browser cannot create user contexts the
+ * test gets a browser of its own instead, unless {@code driver.multiplex.sharedState=true}
+ * lets tabs share the host's state. Hosts are leased from {@link DriverPool} and returned to
+ * it once their last tab is released.</p>
+ *
+ * <p>Configuration: {@code driver.multiplex.tabsPerBrowser} (default 4),
+ * {@code driver.multiplex.sharedState} (default false).</p>
+ */
+public class TabMultiplexer {
+
+    private static final int TABS_PER_BROWSER = Math.max(1,
+            ConfigManager.getIntProperty("driver.multiplex.tabsPerBrowser", 4));
+    private static final boolean SHARED_STATE = ConfigManager.getBooleanProperty("driver.multiplex.sharedState", false);
+
+    // Browsers currently hosting multiplexed tabs
+    private static final List<Host> hosts = new ArrayList<>();
+    // Tab state of every multiplexed driver handed out; identity keys so lookups never reach the browser
+    private static final Map<WebDriver, Tab> tabs = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private TabMultiplexer() {
+    }
+
+    /**
+     * Opens a tab for the calling test in a shared browser, leasing a new host when all are full.
+     * @param browserType browser name (chrome, firefox, edge)
+     * @return driver scoped to the new tab, or null when tabs would have to share session state
+     *         but {@code driver.multiplex.sharedState} does not allow it
+     */
+    public static WebDriver lease(String browserType) {
+        if (!SHARED_STATE && !BrowserContextIsolation.canIsolateTabs()) {
+            return null;
+        }
+        String browser = DriverPool.normalize(browserType);
+        Host host = reserveHost(browser);
+        try {
+            Tab tab = host.openTab();
+            if (tab == null) {
+                unreserve(host);
+                return null;
+            }
+            WebDriver driver = new TabDecorator(tab).decorate(host.driver);
+            tabs.put(driver, tab);
+            return driver;
+        } catch (RuntimeException e) {
+            unreserve(host);
+            throw e;
+        }
+    }
+
+    /**
+     * @param driver any driver
+     * @return true if the driver was handed out by {@link #lease(String)}
+     */
+    public static boolean isTab(WebDriver driver) {
+        return driver != null && tabs.containsKey(driver);
+    }
+
+    /**
+     * @param driver any driver
+     * @return the shared browser session behind a multiplexed tab, or the driver itself; use it
+     *         to key state that belongs to the whole session, such as its timeouts
+     */
+    public static WebDriver hostOf(WebDriver driver) {
+        Tab tab = tabs.get(driver);
+        return tab == null ? driver : tab.host.driver;
+    }
+
+    /**
+     * Runs several commands of a multiplexed tab as one: other tabs of its browser issue no
+     * command until the action returns. Use it for sequences that change session-wide state
+     * and restore it, such as dropping the implicit wait for one lookup.
+     * @param driver any driver; actions of drivers that are not tabs just run
+     * @param action commands to run
+     * @return the action's result
+     */
+    public static <T> T exclusive(WebDriver driver, Supplier<T> action) {
+        Tab tab = driver == null ? null : tabs.get(driver);
+        if (tab == null) {
+            return action.get();
+        }
+        // The host lock is reentrant, so the tab's own commands inside the action still run
+        tab.host.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            tab.host.lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the test's tab (and any window it switched to) and returns the host to the
+     * pool when no tabs remain on it.
+     * @param driver driver returned by {@link #lease(String)}
+     */
+    public static void release(WebDriver driver) {
+        Tab tab = tabs.remove(driver);
+        if (tab == null) {
+            return;
+        }
+        Host host = tab.host;
+        host.lock.lock();
+        try {
+            host.closeTab(tab);
+        } catch (Exception e) {
+            System.out.println("Error closing multiplexed tab: " + e.getMessage());
+        } finally {
+            host.lock.unlock();
+            unreserve(host);
+        }
+    }
+
+    /** Finds a host of the browser type with a free tab slot, or leases a new one. */
+    private static Host reserveHost(String browser) {
+        synchronized (hosts) {
+            for (Host host : hosts) {
+                if (host.browser.equals(browser) && host.openTabs < TABS_PER_BROWSER) {
+                    host.openTabs++;
+                    return host;
+                }
+            }
+        }
+        // Leasing may wait on the browser budget, so it happens outside the hosts lock
+        Host host = new Host(browser, DriverPool.lease(browser));
+        host.openTabs++;
+        synchronized (hosts) {
+            hosts.add(host);
+        }
+        System.out.println("Tab multiplexer: new host browser (" + TABS_PER_BROWSER + " tabs max)");
+        return host;
+    }
+
+    private static void unreserve(Host host) {
+        boolean empty;
+        synchronized (hosts) {
+            host.openTabs--;
+            empty = host.openTabs == 0;
+            if (empty) {
+                hosts.remove(host);
+            }
+        }
+        if (empty) {
+            DriverPool.release(host.driver);
+        }
+    }
+
+    /** One shared browser session and the tab that is currently active in it. */
+    private static class Host {
+        final String browser;
+        final WebDriver driver;
+        final ReentrantLock lock = new ReentrantLock();
+        int openTabs;
+        String activeHandle;
+
+        Host(String browser, WebDriver driver) {
+            this.browser = browser;
+            this.driver = driver;
+        }
+
+        /** @return new tab, or null if it cannot get a user context and must not share state */
+        Tab openTab() {
+            lock.lock();
+            try {
+                String handle = BrowserContextIsolation.openTab(driver);
+                if (handle == null) {
+                    if (!SHARED_STATE) {
+                        return null;
+                    }
+                    driver.switchTo().newWindow(WindowType.TAB);
+                    handle = driver.getWindowHandle();
+                } else {
+                    driver.switchTo().window(handle);
+                }
+                activeHandle = handle;
+                NetworkBlocker.attachWindow(driver);
+                return new Tab(this, handle);
+            } catch (RuntimeException e) {
+                activeHandle = null;
+                throw e;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void closeTab(Tab tab) {
+            // Removing the tab's user context closes every window inside it
+            BrowserContextIsolation.closeTab(driver, tab.homeHandle);
+            Set<String> open = driver.getWindowHandles();
+            for (String handle : tab.ownedHandles) {
+                if (open.contains(handle)) {
+                    driver.switchTo().window(handle);
+                    driver.close();
+                }
+            }
+            activeHandle = null;
+        }
+
+        /** Makes the tab's current window active in the session; caller holds the lock. */
+        void activate(Tab tab) {
+            if (tab.currentHandle == null) {
+                throw new NoSuchWindowException("All windows of this multiplexed test have been closed");
+            }
+            if (!tab.currentHandle.equals(activeHandle)) {
+                driver.switchTo().window(tab.currentHandle);
+                activeHandle = tab.currentHandle;
+            }
+        }
+    }
+
+    /** Window state of one multiplexed test. */
+    private static class Tab {
+        final Host host;
+        final String homeHandle;
+        final Set<String> ownedHandles = new LinkedHashSet<>();
+        String currentHandle;
+
+        Tab(Host host, String homeHandle) {
+            this.host = host;
+            this.homeHandle = homeHandle;
+            this.currentHandle = homeHandle;
+            ownedHandles.add(homeHandle);
+        }
+    }
+
+    /**
+     * Routes every call of a test's driver (and of the elements, navigation and switchTo
+     * objects derived from it) through the host lock with the test's window active.
+     */
+    private static class TabDecorator extends WebDriverDecorator<WebDriver> {
+        private final Tab tab;
+
+        TabDecorator(Tab tab) {
+            this.tab = tab;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return super.call(target, method, args);
+            }
+            if (target.getOriginal() instanceof WebDriver && "quit".equals(method.getName())) {
+                // quit() on a tab only gives the tab back; the browser belongs to the pool
+                release(findDriver());
+                return null;
+            }
+            Host host = tab.host;
+            host.lock.lock();
+            try {
+                if (needsActiveWindow(target, method)) {
+                    host.activate(tab);
+                }
+                Object result = super.call(target, method, args);
+                trackWindowChange(target, method);
+                return result;
+            } finally {
+                host.lock.unlock();
+            }
+        }
+
+        /**
+         * switchTo().window(..) names its own target, so the tab's previous window (which may
+         * have been closed) need not be active first. newWindow(..) only needs some open window
+         * to be current in the session.
+         */
+        private boolean needsActiveWindow(Decorated<?> target, Method method) {
+            if (!(target.getOriginal() instanceof WebDriver.TargetLocator)) {
+                return true;
+            }
+            String name = method.getName();
+            if ("window".equals(name)) {
+                return false;
+            }
+            return !"newWindow".equals(name) || tab.host.activeHandle == null;
+        }
+
+        /** Keeps the tab's current window in sync after switchTo().window/newWindow or close(). */
+        private void trackWindowChange(Decorated<?> target, Method method) {
+            Host host = tab.host;
+            String name = method.getName();
+            boolean switched = target.getOriginal() instanceof WebDriver.TargetLocator
+                    && ("window".equals(name) || "newWindow".equals(name));
+            if (switched) {
+                tab.currentHandle = host.driver.getWindowHandle();
+                host.activeHandle = tab.currentHandle;
+                if (tab.ownedHandles.add(tab.currentHandle)) {
+                    // First visit of a window opened after launch
+                    NetworkBlocker.attachWindow(host.driver);
+                }
+            } else if (target.getOriginal() instanceof WebDriver && "close".equals(name)) {
+                tab.ownedHandles.remove(tab.currentHandle);
+                host.activeHandle = null;
+                // Fall back to a surviving window of the test, preferably its home tab
+                tab.ownedHandles.retainAll(host.driver.getWindowHandles());
+                tab.currentHandle = tab.ownedHandles.contains(tab.homeHandle) ? tab.homeHandle
+                        : tab.ownedHandles.stream().findFirst().orElse(null);
+            }
+        }
+
+        private WebDriver findDriver() {
+            synchronized (tabs) {
+                for (Map.Entry<WebDriver, Tab> entry : tabs.entrySet()) {
+                    if (entry.getValue() == tab) {
+                        return entry.getKey();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package selenium.automation.framework.core;
+
+/**
+ * Credentials of an account created for testing.
+ *
+ * @param email account email
+ * @param password account password
+ */
+public record TestAccount(String email, String password) {
+
+    @Override
+    public String toString() {
+        // Password intentionally left out, accounts end up in logs and cleanup summaries
+        return email;
+    }
+}
@@ -0,0 +1,324 @@
+package selenium.automation.framework.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Wait;
+
+/**
+ * Shared explicit-wait engine with adaptive polling and per-condition timing.
+ *
+ * <p>Page objects ask for a wait of a named length ({@link Span}) instead of constructing
+ * their own {@code WebDriverWait}. The condition is checked immediately, then polled at
+ * {@code wait.poll.initialMs} (default 25 ms), backing off by half on every miss up to
+ * {@code wait.poll.maxMs} (default 250 ms). A condition that becomes true soon is noticed
+ * within milliseconds, and a long wait does not flood the browser with commands.</p>
+ *
+ * <p>Span lengths come from {@code profile.<active launch profile>.wait.<span>Ms}, then
+ * {@code wait.<span>Ms}, then the built-in defaults. A wait is bound to the driver it was
+ * obtained for and holds no other state, so page objects may keep it and threads may share
+ * it; polling back-off starts afresh in every {@code until}. Every wait records its duration under
+ * the condition's name ({@link AdaptiveWait#until(String, Function)}), its description, or for
+ * lambdas the calling class, method and line, and {@link #summary()} lists the most expensive ones.</p>
+ *
+ * <p>{@link #untilInPage(WebDriver, Span, InPageCondition)} evaluates DOM conditions inside the
+ * browser instead of polling them, and {@link #untilAny(WebDriver, Span, AnyOf)} races several
+ * alternative conditions in one wait.</p>
+ */
+public class WaitEngine {
+
+    /** Named wait lengths used by page objects. */
+    public enum Span {
+        /** Quick settle after a scroll or animation (default 500 ms) */
+        BRIEF("brief", 500),
+        /** Elements expected on an already loaded page (default 5 s) */
+        SHORT("short", 5_000),
+        /** Regular page transitions (default 10 s) */
+        DEFAULT("default", 10_000),
+        /** Server round trips such as placing an order (default 20 s) */
+        LONG("long", 20_000);
+
+        private final String key;
+        private final long defaultMillis;
+
+        Span(String key, long defaultMillis) {
+            this.key = key;
+            this.defaultMillis = defaultMillis;
+        }
+    }
+
+    private static final long INITIAL_POLL_MS = Math.max(1, ConfigManager.getIntProperty("wait.poll.initialMs", 25));
+    private static final long MAX_POLL_MS = Math.max(INITIAL_POLL_MS, ConfigManager.getIntProperty("wait.poll.maxMs", 250));
+    private static final Map<Span, Duration> TIMEOUTS = resolveTimeouts();
+
+    // Per-condition wait durations and timeout counts for the run
+    private static final Map<String, LatencyStats> conditionStats = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> conditionTimeouts = new ConcurrentHashMap<>();
+
+    // Longest single async script; stays under the default 30 s script timeout
+    private static final long MAX_ASYNC_CHUNK_MS = 25_000;
+    // Re-checks the condition on every DOM mutation and animation frame (plus a slow timer,
+    // as background tabs get no frames) and resolves as soon as it holds or the time is up
+    private static final String OBSERVE_SCRIPT = InPageCondition.CHECK_FUNCTION
+            + "var done = arguments[arguments.length - 1];"
+            + "var timeoutMs = arguments[0], args = [arguments[1], arguments[2], arguments[3], arguments[4]];"
+            + "function holds() { try { return check.apply(null, args); } catch (e) { return false; } }"
+            + "if (holds()) { done(true); return; }"
+            + "var finished = false, observer, timer, interval;"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true; observer.disconnect(); clearTimeout(timer); clearInterval(interval); done(result);"
+            + "}"
+            + "observer = new MutationObserver(function () { if (holds()) { finish(true); } });"
+            + "observer.observe(document.documentElement,"
+            + "    { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "function frame() { if (finished) { return; } if (holds()) { finish(true); } else { requestAnimationFrame(frame); } }"
+            + "requestAnimationFrame(frame);"
+            + "interval = setInterval(function () { if (holds()) { finish(true); } }, 250);"
+            + "timer = setTimeout(function () { finish(holds()); }, timeoutMs);";
+
+    // Cleared the first time a driver rejects async scripts; later waits poll instead
+    private static volatile boolean asyncScriptsSupported = true;
+
+    private WaitEngine() {
+    }
+
+    /**
+     * @param driver session to wait on
+     * @return wait of {@link Span#DEFAULT} length bound to the driver
+     */
+    public static AdaptiveWait get(WebDriver driver) {
+        return get(driver, Span.DEFAULT);
+    }
+
+    /**
+     * @param driver session to wait on
+     * @param span wait length
+     * @return wait of the given length bound to the driver
+     */
+    public static AdaptiveWait get(WebDriver driver, Span span) {
+        return new AdaptiveWait(driver, TIMEOUTS.get(span));
+    }
+
+    /**
+     * Waits until any of the alternatives holds, checking all of them in every poll cycle.
+     * @param driver session to wait on
+     * @param span wait length
+     * @param alternatives named alternative conditions, in order of precedence
+     * @return the alternative that held first, or null if none held within the span
+     */
+    public static <T> AnyOf.Match<T> untilAny(WebDriver driver, Span span, AnyOf<T> alternatives) {
+        try {
+            return get(driver, span).until(alternatives);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits for a DOM condition inside the page: the condition is sent to the browser once
+     * with {@code executeAsyncScript} and resolves on the first mutation or animation frame
+     * where it holds, so the wait costs one driver command instead of one per poll. Falls
+     * back to adaptive polling of the same check when async scripts are unavailable or the
+     * page navigates while waiting. Multiplexed tabs always poll, so other tabs of the same
+     * browser can run commands between checks.
+     * @param driver session to wait on
+     * @param span wait length
+     * @param condition DOM condition to wait for
+     * @return true if the condition held within the span, false on timeout
+     */
+    public static boolean untilInPage(WebDriver driver, Span span, InPageCondition condition) {
+        String name = condition.toString();
+        long start = System.nanoTime();
+        long deadline = start + TIMEOUTS.get(span).toNanos();
+        // An async script would hold a multiplexed tab's shared browser for the whole wait
+        while (asyncScriptsSupported && !TabMultiplexer.isTab(driver)) {
+            long chunk = Math.min(MAX_ASYNC_CHUNK_MS, Math.max(0, (deadline - System.nanoTime()) / 1_000_000));
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVE_SCRIPT, condition.arguments(chunk));
+                if (Boolean.TRUE.equals(result)) {
+                    record(name, System.nanoTime() - start, false);
+                    return true;
+                }
+            } catch (UnsupportedCommandException e) {
+                asyncScriptsSupported = false;
+                System.out.println("Async scripts unsupported, in-page waits will poll: " + e.getMessage());
+            } catch (ScriptTimeoutException e) {
+                // Script timeout shorter than the chunk: check again until the deadline
+            } catch (JavascriptException e) {
+                // Document replaced mid-wait (navigation): finish by polling
+                break;
+            }
+            if (System.nanoTime() >= deadline) {
+                record(name, System.nanoTime() - start, true);
+                return false;
+            }
+        }
+        return pollInPage(driver, deadline, condition);
+    }
+
+    /** Polling fallback of {@link #untilInPage}: runs the check script with adaptive back-off. */
+    private static boolean pollInPage(WebDriver driver, long deadline, InPageCondition condition) {
+        Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+        Function<WebDriver, Boolean> check = new Function<WebDriver, Boolean>() {
+            @Override
+            public Boolean apply(WebDriver webDriver) {
+                try {
+                    return Boolean.TRUE.equals(((JavascriptExecutor) webDriver)
+                            .executeScript(condition.checkScript(), condition.checkArguments()));
+                } catch (JavascriptException e) {
+                    return false; // page between documents
+                }
+            }
+
+            @Override
+            public String toString() {
+                return condition.toString();
+            }
+        };
+        try {
+            return new AdaptiveWait(driver, remaining).until(check);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param span wait length
+     * @return configured timeout of the span
+     */
+    public static Duration timeout(Span span) {
+        return TIMEOUTS.get(span);
+    }
+
+    /** @return the ten conditions with the most total wait time, with their distribution */
+    public static String summary() {
+        List<Map.Entry<String, LatencyStats>> entries = new ArrayList<>(conditionStats.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalMillis(), a.getValue().totalMillis()));
+        StringBuilder summary = new StringBuilder("WaitEngine[conditions=" + entries.size() + "]");
+        for (Map.Entry<String, LatencyStats> entry : entries.subList(0, Math.min(10, entries.size()))) {
+            AtomicLong timeouts = conditionTimeouts.get(entry.getKey());
+            summary.append(System.lineSeparator())
+                    .append("  ").append(entry.getValue().totalMillis()).append(" ms total (")
+                    .append(entry.getValue()).append(", timeouts=").append(timeouts == null ? 0 : timeouts.get())
+                    .append(") ").append(entry.getKey());
+        }
+        return summary.toString();
+    }
+
+    /**
+     * @param condition condition description
+     * @return wait durations recorded for the condition, or null if never waited on
+     */
+    public static LatencyStats statsFor(String condition) {
+        return conditionStats.get(condition);
+    }
+
+    private static void record(String condition, long nanos, boolean timedOut) {
+        conditionStats.computeIfAbsent(condition, key -> new LatencyStats()).record(nanos);
+        if (timedOut) {
+            conditionTimeouts.computeIfAbsent(condition, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Stats key of an unnamed condition: its description, or where it was waited on for lambdas,
+     * whose descriptions change with every capturing instance.
+     */
+    private static String describe(Object condition) {
+        Class<?> type = condition.getClass();
+        if (!type.isSynthetic() && !type.isHidden()) {
+            return String.valueOf(condition);
+        }
+        String engine = WaitEngine.class.getName();
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> !frame.getClassName().startsWith(engine))
+                .findFirst()
+                .map(frame -> "lambda at " + frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("lambda"));
+    }
+
+    private static Map<Span, Duration> resolveTimeouts() {
+        String profile = LaunchProfile.active().getName();
+        Map<Span, Duration> timeouts = new EnumMap<>(Span.class);
+        for (Span span : Span.values()) {
+            String property = "wait." + span.key + "Ms";
+            int base = ConfigManager.getIntProperty(property, (int) span.defaultMillis);
+            timeouts.put(span, Duration.ofMillis(ConfigManager.getIntProperty("profile." + profile + "." + property, base)));
+        }
+        System.out.println("Wait timeouts: " + timeouts + ", polling " + INITIAL_POLL_MS + "-" + MAX_POLL_MS + " ms");
+        return timeouts;
+    }
+
+    /**
+     * Explicit wait with back-off polling; ignores NotFound and StaleElementReference while polling.
+     * Immutable: the driver and timeout are fixed, the back-off lives in each {@code until} call.
+     */
+    public static final class AdaptiveWait implements Wait<WebDriver> {
+        private final WebDriver driver;
+        private final Duration timeout;
+
+        AdaptiveWait(WebDriver driver, Duration timeout) {
+            this.driver = driver;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public <T> T until(Function<? super WebDriver, T> condition) {
+            return until(describe(condition), condition);
+        }
+
+        /**
+         * Waits like {@link #until(Function)}, recording the wait under the given name.
+         * @param name condition name for timing stats and timeout messages
+         * @param condition condition to poll
+         * @return the condition's first non-null, non-false value
+         */
+        public <T> T until(String name, Function<? super WebDriver, T> condition) {
+            long start = System.nanoTime();
+            long deadline = start + timeout.toNanos();
+            long poll = INITIAL_POLL_MS;
+            RuntimeException lastError = null;
+            while (true) {
+                try {
+                    T value = condition.apply(driver);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        record(name, System.nanoTime() - start, false);
+                        return value;
+                    }
+                    lastError = null;
+                } catch (NotFoundException | StaleElementReferenceException e) {
+                    lastError = e;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    record(name, System.nanoTime() - start, true);
+                    throw new TimeoutException(String.format(
+                            "Expected condition failed: waiting for %s (tried for %d ms with %d-%d ms adaptive polling)",
+                            name, timeout.toMillis(), INITIAL_POLL_MS, MAX_POLL_MS), lastError);
+                }
+                try {
+                    Thread.sleep(Math.min(poll, Math.max(1, remaining / 1_000_000)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for " + name, e);
+                }
+                poll = Math.min(MAX_POLL_MS, poll + Math.max(1, poll / 2));
+            }
+        }
+    }
+}
@@ -1,57 +1,130 @@
 package selenium.automation.framework.core;
 
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.firefox.FirefoxDriver;
-
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.service.DriverService;
 
 /**
  * Utility class for WebDriver management, including initialization and cleanup.
  * This class uses ThreadLocal to ensure thread-safe WebDriver instances for parallel execution.
+ * Sessions are leased from {@link DriverPool} so consecutive tests reuse a warm browser.
  */
 public class WebdriverUtil {
-    
+
     // ThreadLocal to hold WebDriver instances, ensuring thread safety
     private static ThreadLocal<WebDriver> threadLocalDriver = new ThreadLocal<>();
 
     /**
      * Initializes the WebDriver for the specified browser.
+     * A parked session from the pool is reused when available, otherwise a new browser is launched
+     * once the adaptive concurrency limit allows it. With {@code driver.isolation=context} the
+     * returned driver is switched into a browser context of its own for this test.
      * @param browserType The type of browser to initialize (e.g., "chrome", "firefox", "edge").
      * @return The initialized WebDriver instance.
      */
     public static WebDriver initializeDriver(String browserType) {
+        return initializeDriver(browserType, false);
+    }
+
+    /**
+     * Initializes the WebDriver for the specified browser, optionally as a tab of a shared browser.
+     * @param browserType The type of browser to initialize (e.g., "chrome", "firefox", "edge").
+     * @param multiplexed true to run the test in its own tab of a browser shared with other
+     *                    tests (see {@link TabMultiplexer}); false for a browser of its own.
+     *                    A test that cannot get an isolated tab gets a browser of its own.
+     * @return The initialized WebDriver instance.
+     */
+    public static WebDriver initializeDriver(String browserType, boolean multiplexed) {
+        ConcurrencyController.ensureStarted();
+        WebDriver driver = multiplexed ? TabMultiplexer.lease(browserType) : null;
+        threadLocalDriver.set(driver != null ? driver : DriverPool.lease(browserType));
+        return threadLocalDriver.get();
+    }
+
+    /**
+     * Launches a brand-new browser session using the active {@link LaunchProfile}.
+     * Driver binaries are resolved once per JVM through {@link DriverBinaryResolver} and the
+     * spawned process tree is registered with {@link DriverProcessTracker}. When
+     * {@link BrowserContextIsolation} is enabled the session is started with a BiDi connection.
+     * The ad/third-party blocklist of {@link NetworkBlocker} is installed before first use.
+     * Used by {@link DriverPool} on a pool miss.
+     * @param browserType normalized browser type
+     * @return new WebDriver instance
+     */
+    static WebDriver createDriver(String browserType) {
         System.out.println("WebDriver initialized.");
+        LaunchProfile profile = LaunchProfile.active();
+        WebDriver driver;
+        DriverService service;
         switch (browserType.toLowerCase()) {
-            case "chrome":
-                WebDriverManager.chromedriver().setup();
-                threadLocalDriver.set(new ChromeDriver());
-                break;
             case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                threadLocalDriver.set(new FirefoxDriver());
+                DriverBinaryResolver.resolve("firefox");
+                GeckoDriverService geckoService = new GeckoDriverService.Builder().usingAnyFreePort().build();
+                driver = new FirefoxDriver(geckoService, withSessionCapabilities(profile.firefoxOptions()));
+                service = geckoService;
                 break;
             case "edge":
-                WebDriverManager.edgedriver().setup();
-                threadLocalDriver.set(new EdgeDriver());
+                DriverBinaryResolver.resolve("edge");
+                EdgeDriverService edgeService = new EdgeDriverService.Builder().usingAnyFreePort().build();
+                driver = new EdgeDriver(edgeService, withSessionCapabilities(profile.edgeOptions()));
+                service = edgeService;
                 break;
+            case "chrome":
             default:
-                System.out.println("Unsupported browser type! Defaulting to Chrome.");
-                WebDriverManager.chromedriver().setup();
-                threadLocalDriver.set(new ChromeDriver());
+                DriverBinaryResolver.resolve("chrome");
+                ChromeDriverService chromeService = new ChromeDriverService.Builder().usingAnyFreePort().build();
+                driver = new ChromeDriver(chromeService, withSessionCapabilities(profile.chromeOptions()));
+                service = chromeService;
                 break;
         }
-        return threadLocalDriver.get();
+        // Record spawned driver/browser PIDs so nothing outlives the session
+        DriverProcessTracker.track(driver, service);
+        NetworkBlocker.attach(driver);
+        profile.applyWindow(driver);
+        return driver;
+    }
+
+    /**
+     * Adds the capabilities needed by session features (BiDi for context isolation and Firefox blocking).
+     */
+    private static <T extends MutableCapabilities> T withSessionCapabilities(T options) {
+        return NetworkBlocker.prepare(BrowserContextIsolation.prepare(options));
+    }
+
+    /**
+     * Returns the current thread's WebDriver to the pool (reset for the next test)
+     * and removes it from the ThreadLocal storage.
+     */
+    public static void releaseDriver() {
+        WebDriver driver = threadLocalDriver.get();
+        if (driver != null) {
+            threadLocalDriver.remove();
+            if (TabMultiplexer.isTab(driver)) {
+                TabMultiplexer.release(driver);
+            } else {
+                DriverPool.release(driver);
+            }
+        }
     }
 
     /**
      * Quits the WebDriver and removes it from the ThreadLocal storage.
+     * The session is discarded rather than returned to the pool.
      */
     public static void quitDriver() {
         System.out.println("WebDriver quit.");
-        if (threadLocalDriver.get() != null) {
-            threadLocalDriver.get().quit();
+        if (TabMultiplexer.isTab(threadLocalDriver.get())) {
+            // A tab's browser is shared with other tests; only the tab is closed
+            TabMultiplexer.release(threadLocalDriver.get());
+            threadLocalDriver.remove();
+        } else if (threadLocalDriver.get() != null) {
+            DriverPool.discard(threadLocalDriver.get());
             threadLocalDriver.remove(); // Clean up ThreadLocal
         }
     }
@@ -1,29 +1,32 @@
 package selenium.automation.framework.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.locators.RelativeLocator;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.List;
 
+import selenium.automation.framework.core.AnyOf;
 import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.InPageCondition;
+import selenium.automation.framework.core.WaitEngine;
 
 /**
  * Page Object modelling the Cart screen.
  * Responsibilities:
- *  - Read cart contents (rows, quantities, prices, totals)
+ *  - Read cart contents (rows, quantities, prices, totals) from a one-call CartSnapshot
  *  - Perform lightweight cart actions (proceed to checkout, removal)
  *  - Resilient detection of rows using multiple fallback locator strategies
  *  - Provide defensive checks to avoid brittle NoSuchElementExceptions
  *
  * Design Notes:
- *  - Removal uses multi-strategy approach to handle dynamic markup differences.
+ *  - Removal races several locator strategies to handle dynamic markup differences.
+ *  - Reads share one cached CartSnapshot, dropped on removal and on every new page state.
  *  - Quantity update currently unsupported -> explicit UnsupportedOperationException for clarity.
  *  - Methods prefer returning default values ("", 0, false) rather than throwing
  *    to allow tests to assert gracefully.
@@ -36,12 +39,10 @@ public class CartPage {
     WebDriver driver;
     /** Base URL for direct navigation to cart */
     String cartPageUrl = ConfigManager.getProperty("CartPageURL");
-    /** Root cart table element */
-    private By cartTable = By.id("cart_info_table");
+    /** Body rows of the cart table */
+    private By cartRows = By.xpath("//table[@id='cart_info_table']//tbody/tr");
     /** Checkout CTA */
     private By proceedToCheckoutBtn = By.xpath("//a[contains(text(),'Proceed To Checkout')]");
-    /** Aggregated total amount cell */
-    private By cartTotalAmount = By.xpath("//td[contains(text(),'Total')]/following-sibling::td");
     /** Quantity input (if present) */
     // Quantity input retained for future enhancement (currently unused)
     @SuppressWarnings("unused")
@@ -50,6 +51,10 @@ public class CartPage {
     private By logoutLink = By.xpath("//a[contains(text(),'Logout')]");
     /** Modal displayed during inline checkout flow */
     private By cartCheckOutModal = By.id("checkoutModal");
+    /** Last cart read; null once the cart may have changed */
+    private CartSnapshot snapshot;
+    /** Page-state version ({@link ElementCache#version}) the snapshot was read in */
+    private long snapshotVersion;
 
     /**
      * Constructs the page object. Does not navigate.
@@ -61,84 +66,37 @@ public class CartPage {
     }
 
     /**
-     * Navigates to the cart page and maximizes window for consistent viewport.
+     * Navigates to the cart page. Viewport is fixed at launch by the active launch profile.
      */
     public void openCartPage() {
         logger.info("Navigating to CartPage: {}", cartPageUrl);
-        driver.get(cartPageUrl);
-        driver.manage().window().maximize();
-        logger.info("CartPage opened and window maximized");
+        NavigationManager.open(driver, cartPageUrl);
+        logger.info("CartPage opened");
     }
 
     /**
      * Checks presence of a product row by data-product-id attribute.
      * @param productId id value expected in row's td[data-product-id]
-     * @return true if matching row exists
+     * @return true if matching row exists (read from the cart snapshot)
      */
     public boolean isProductInCart(String productId) {
         logger.info("Checking if product ID {} is in cart", productId);
-        String productRowXpath = "//*[@id='cart_info_table']//tr[td[@data-product-id='" + productId + "']]";
-        boolean isPresent = !driver.findElements(By.xpath(productRowXpath)).isEmpty();
+        boolean isPresent = getSnapshot().findByProductId(productId) != null;
         logger.info("Product ID {} in cart: {}", productId, isPresent);
         return isPresent;
     }
 
     /**
      * Attempts to find any item with dynamic row id pattern product-<n>.
-     * Falls back to generic row content inspection when pattern not present.
+     * Falls back to any non-empty product row when the pattern is not present.
      * @param id numeric part expected in product-<id>
      * @return true if matching or any valid product row present
      */
     public boolean isItemsInCart(int id) {
         logger.info("Checking if item with ID {} exists in cart", id);
-        try {
-            // Wait for cart table to be present
-            WebElement cartTableElement = driver.findElement(cartTable);
-
-            // Look for rows with id attribute starting with "product-"
-            List<WebElement> trows = driver.findElements(
-                    RelativeLocator.with(By.tagName("tr")).below(cartTableElement));
-
-            for (WebElement row : trows) {
-                String rowId = row.getAttribute("id");
-                if (rowId == null || rowId.isEmpty()) {
-                    continue; // skip rows with no id
-                }
-
-                if (!rowId.startsWith("product-")) {
-                    continue; // unexpected format; skip
-                }
-
-                String numericPart = rowId.substring("product-".length());
-
-                try {
-                    int rowIdValue = Integer.parseInt(numericPart);
-                    if (rowIdValue == id) {
-                        return true;
-                    }
-                } catch (NumberFormatException e) {
-                    // skip invalid values
-                    continue;
-                }
-            }
-
-            // Fallback: Check if there are any product rows in the cart at all
-            // This handles cases where the row id structure is different
-            List<WebElement> productRows = driver.findElements(By.xpath("//table[@id='cart_info_table']//tbody/tr"));
-            if (!productRows.isEmpty()) {
-                // Check if any row contains product information (not empty cart message)
-                for (WebElement row : productRows) {
-                    String rowText = row.getText();
-                    if (rowText != null && !rowText.trim().isEmpty() && !rowText.contains("Cart is empty")) {
-                        return true; // Found at least one product
-                    }
-                }
-            }
-
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
+        CartSnapshot cart = getSnapshot();
+        // Fallback: any product row at all handles carts whose row id structure differs
+        return cart.findByRowId("product-" + id) != null || !cart.isEmpty();
     }
 
     /**
@@ -148,139 +106,138 @@ public class CartPage {
      * @return true if actual matches expected, false if not found or mismatch
      */
     public boolean priceOfItemInCart(String productId, String expectedPrice) {
-        String actualPrice;
-        try {
-            String priceXpath = "//*[@id='cart_info_table']//tr[td[@data-product-id='" + productId
-                    + "']]//td[@class='cart_price']";
-            WebElement priceElement = driver.findElement(By.xpath(priceXpath));
-            actualPrice = priceElement.getText().trim();
-        } catch (Exception e) {
-            return false;
-        }
-        return actualPrice.equals(expectedPrice);
+        CartSnapshot.Line line = getSnapshot().findByProductId(productId);
+        return line != null && line.getPriceText().equals(expectedPrice);
     }
 
     /**
      * Removes an item using multiple locator strategies to cope with UI variance.
-     * Order of strategies:
+     * Strategies, raced in one wait and preferred in this order:
      *  1. Direct XPath using product-id
-     *  2. Iterate all rows matching id pattern and derive delete link
+     *  2. Any delete-like link in the row with the product-id
      *  3. Positional fallback based on index
-     * Sleeps briefly after click to allow DOM update (minimal wait retained).
+     * Returns once the page has removed the row (event-driven in-page wait, no fixed sleep).
      * @param productId id suffix used in product-<id>
      */
     public void removeItemFromCart(String productId) {
-        try {
-            // Strategy 1: Try direct XPath to find and click delete button
-            try {
-                WebElement deleteButton = driver.findElement(
-                        By.xpath("//tr[@id='product-" + productId + "']//a[contains(@class,'cart_quantity_delete')]"));
-                deleteButton.click();
-                Thread.sleep(500);
-                return;
-            } catch (Exception e1) {
-                // Continue to next strategy
-            }
+        String row = "//tr[@id='product-" + productId + "']";
+        AnyOf<WebElement> deleteButtons = AnyOf.<WebElement>of("direct xpath", d -> first(d,
+                        By.xpath(row + "//a[contains(@class,'cart_quantity_delete')]")))
+                .or("row link", d -> first(d, By.xpath(row + "//a[normalize-space()='Delete'"
+                        + " or contains(@class,'delete') or contains(@href,'delete')] | " + row + "/td[last()]//a")));
+        if (productId.matches("\\d+")) {
+            deleteButtons.or("position", d -> first(d, By.xpath("(//table[@id='cart_info_table']//tbody/tr)["
+                    + productId + "]//a[contains(@class,'cart_quantity_delete') or contains(@class,'delete')]")));
+        }
 
-            // Strategy 2: Find all rows and match by id attribute
-            WebElement[] rows = getAllRows();
-            if (rows == null || rows.length == 0) {
+        AnyOf.Match<WebElement> match = WaitEngine.untilAny(driver, WaitEngine.Span.SHORT, deleteButtons);
+        int rowCount = ElementProbe.findAll(driver, cartRows).size();
+        if (match == null) {
+            if (rowCount == 0) {
                 throw new IllegalStateException("No rows found in cart table");
             }
-
-            for (WebElement row : rows) {
-                String rowId = row.getAttribute("id");
-                if (rowId != null && rowId.equals("product-" + productId)) {
-                    WebElement deleteButton = null;
-
-                    try {
-                        deleteButton = row.findElement(By.className("cart_quantity_delete"));
-                    } catch (Exception e1) {
-                        try {
-                            deleteButton = row.findElement(By.linkText("Delete"));
-                        } catch (Exception e2) {
-                            try {
-                                deleteButton = row.findElement(
-                                        By.xpath(".//a[contains(@class,'delete') or contains(@href,'delete')]"));
-                            } catch (Exception e3) {
-                                deleteButton = row.findElement(By.xpath(".//td[last()]//a"));
-                            }
-                        }
-                    }
-
-                    if (deleteButton != null) {
-                        deleteButton.click();
-                        Thread.sleep(500);
-                        return;
-                    }
-                }
-            }
-
-            // Strategy 3: Try finding by index if id doesn't match
-            int productIndex = Integer.parseInt(productId);
-            if (productIndex > 0 && productIndex <= rows.length) {
-                WebElement row = rows[productIndex - 1];
-                try {
-                    WebElement deleteButton = row.findElement(
-                            By.xpath(".//a[contains(@class,'cart_quantity_delete') or contains(@class,'delete')]"));
-                    deleteButton.click();
-                    Thread.sleep(500);
-                    return;
-                } catch (Exception e) {
-                    // Continue to error
-                }
-            }
-
             throw new IllegalStateException(
-                    "Product with ID " + productId + " not found in cart. Rows found: " + rows.length);
+                    "Product with ID " + productId + " not found in cart. Rows found: " + rowCount);
+        }
+        logger.debug("Deleting product {} via {}", productId, match.name());
+        match.value().click();
+        invalidateSnapshot();
+        awaitRemoval("position".equals(match.name())
+                ? InPageCondition.countBelow(cartRows, rowCount)
+                : InPageCondition.absent(By.id("product-" + productId)));
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Interrupted while removing item", e);
+    /** @return first element matching the locator right now, or null */
+    private static WebElement first(WebDriver driver, By locator) {
+        List<WebElement> found = ElementProbe.findAll(driver, locator);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Waits inside the page for the cart to drop the deleted row, instead of a fixed sleep.
+     * @param removed DOM condition that holds once the row is gone
+     */
+    private void awaitRemoval(InPageCondition removed) {
+        if (!WaitEngine.untilInPage(driver, WaitEngine.Span.SHORT, removed)) {
+            logger.warn("Cart row still present after delete click: {}", removed);
         }
     }
 
     /**
-     * Returns all cart rows using progressive fallback strategies:
-     *  1. tbody/tr under cart table
-     *  2. any tr with id starting product-
-     *  3. RelativeLocator below table
+     * Returns all cart rows from the cart snapshot (tbody rows, else rows with id product-*).
      * @return array of row elements (empty array if none)
      */
     public WebElement[] getAllRows() {
-        try {
-            // Try multiple strategies to find cart rows
-            List<WebElement> trows;
-
-            // Strategy 1: Find all tbody tr elements in cart table
-            trows = driver.findElements(By.xpath("//table[@id='cart_info_table']//tbody/tr"));
+        List<CartSnapshot.Line> lines = getSnapshot().getLines();
+        WebElement[] rows = new WebElement[lines.size()];
+        for (int i = 0; i < rows.length; i++) {
+            // Rows heal by their own id when they have one, else by position in the table
+            String rowId = lines.get(i).getRowId();
+            rows[i] = rowId.isEmpty()
+                    ? SelfHealingElement.wrap(driver, cartRows, i, lines.get(i).getElement(), null)
+                    : SelfHealingElement.wrap(driver, By.id(rowId), 0, lines.get(i).getElement(), null);
+        }
+        return rows;
+    }
 
-            if (trows.isEmpty()) {
-                // Strategy 2: Try finding rows with id starting with 'product-'
-                trows = driver
-                        .findElements(By.xpath("//table[@id='cart_info_table']//tr[starts-with(@id, 'product-')]"));
+    /**
+     * Returns the cart as read by one script call, reusing the last read until this page
+     * mutates the cart or a page object navigates (a new {@link ElementCache} page state).
+     * Waits briefly for the cart table to render.
+     * @return current cart contents ({@link CartSnapshot#EMPTY} if the table never appeared)
+     */
+    public CartSnapshot getSnapshot() {
+        long version = ElementCache.version(driver);
+        if (snapshot == null || snapshotVersion != version) {
+            try {
+                snapshot = WaitEngine.get(driver, WaitEngine.Span.SHORT).until(CartSnapshot.READ);
+                snapshotVersion = version;
+                logger.debug("Read {}", snapshot);
+            } catch (TimeoutException e) {
+                logger.warn("Cart table not rendered; treating cart as empty");
+                return CartSnapshot.EMPTY;
             }
+        }
+        return snapshot;
+    }
 
-            if (trows.isEmpty()) {
-                // Strategy 3: Try RelativeLocator as fallback
-                WebElement cartTable = driver.findElement(this.cartTable);
-                trows = driver.findElements(
-                        RelativeLocator.with(By.tagName("tr")).below(cartTable));
-            }
+    /**
+     * Drops the cached snapshot so the next read sees the page again. Called by this page's
+     * own mutations; call it after changing the cart by other means.
+     */
+    public void invalidateSnapshot() {
+        snapshot = null;
+    }
 
-            return trows.toArray(new WebElement[0]);
-        } catch (Exception e) {
-            return new WebElement[0];
+    /**
+     * Removes every item from the cart: opens the cart, clicks all delete links in one script
+     * call (the site removes each row by its own request) and waits for the rows to go.
+     * @return true if the cart is empty afterwards
+     */
+    public boolean emptyCart() {
+        NavigationManager.open(driver, cartPageUrl, true);
+        int rowCount = ElementProbe.findAll(driver, cartRows).size();
+        if (rowCount == 0) {
+            return true;
         }
+        logger.info("Emptying cart of {} item(s)", rowCount);
+        ((JavascriptExecutor) driver).executeScript(
+                "document.querySelectorAll('#cart_info_table a.cart_quantity_delete').forEach(function (a) { a.click(); });");
+        invalidateSnapshot();
+        boolean empty = WaitEngine.untilInPage(driver, WaitEngine.Span.DEFAULT, InPageCondition.countBelow(cartRows, 1));
+        if (!empty) {
+            logger.warn("Cart still has {} row(s) after emptying", ElementProbe.findAll(driver, cartRows).size());
+        }
+        return empty;
     }
 
     /**
-     * Asserts product absence after deletion attempt.
+     * Asserts product absence after deletion attempt, allowing up to 5s for the row to disappear.
      * @param productId expected removed product id
      */
     public void verifyItemRemoved(String productId) {
-        String productRowXpath = "//*[@id='cart_info_table']//tr[td[@data-product-id='" + productId + "']]]";
-        boolean isPresent = !driver.findElements(By.xpath(productRowXpath)).isEmpty();
+        String productRowXpath = "//*[@id='cart_info_table']//tr[td[@data-product-id='" + productId + "']]";
+        boolean isPresent = !ElementProbe.isAbsentWithin(driver, By.xpath(productRowXpath), Duration.ofSeconds(5));
         if (isPresent) {
             throw new AssertionError("Product with ID " + productId + " was not removed from the cart.");
         }
@@ -292,8 +249,9 @@ public class CartPage {
     public void proceedToCheckout() {
         try {
             logger.info("Proceeding to checkout");
-            WebElement checkoutBtn = driver.findElement(proceedToCheckoutBtn);
+            WebElement checkoutBtn = ElementCache.find(driver, proceedToCheckoutBtn);
             checkoutBtn.click();
+            ElementCache.invalidate(driver);
             logger.info("Checkout button clicked successfully");
         } catch (Exception e) {
             logger.error("Failed to click proceed to checkout button: {}", e.getMessage());
@@ -302,36 +260,14 @@ public class CartPage {
     }
 
     /**
-     * Retrieves cart total, attempting alternative locator if primary empty.
+     * Retrieves cart total (main total cell, else the cart_total_price heading).
      * @return textual total (may include currency symbol) or empty string.
      */
     public String getCartTotal() {
-        try {
-            logger.info("Retrieving cart total amount");
-            // Wait for the element to be present
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(5));
-            WebElement totalElement = wait.until(ExpectedConditions.presenceOfElementLocated(cartTotalAmount));
-            String total = totalElement.getText().trim();
-
-            if (total.isEmpty()) {
-                // Try alternative locator if main one returns empty
-                logger.warn("Cart total text is empty, trying alternative locator");
-                try {
-                    By alternativeLocator = By.xpath("//h4[contains(@class,'cart_total_price')]");
-                    WebElement altElement = driver.findElement(alternativeLocator);
-                    total = altElement.getText().trim();
-                    logger.info("Cart total from alternative locator: {}", total);
-                } catch (Exception e2) {
-                    logger.warn("Alternative locator also failed: {}", e2.getMessage());
-                }
-            }
-
-            logger.info("Cart total amount: {}", total);
-            return total;
-        } catch (Exception e) {
-            logger.warn("Failed to retrieve cart total: {}", e.getMessage());
-            return "";
-        }
+        logger.info("Retrieving cart total amount");
+        String total = getSnapshot().getCartTotalText();
+        logger.info("Cart total amount: {}", total);
+        return total;
     }
 
     /**
@@ -354,18 +290,14 @@ public class CartPage {
      * @return parsed integer quantity or 0 if missing/error.
      */
     public int getProductQuantity(String productId) {
-        try {
-            logger.info("Getting quantity for product ID: {}", productId);
-            WebElement quantityElement = driver.findElement(
-                    By.xpath("//tr[@id='product-" + productId + "']//button[@class='disabled']"));
-            String qtyText = quantityElement.getText().trim();
-            int quantity = Integer.parseInt(qtyText);
-            logger.info("Product ID {} has quantity: {}", productId, quantity);
-            return quantity;
-        } catch (Exception e) {
-            logger.warn("Failed to get quantity for product {}: {}", productId, e.getMessage());
+        logger.info("Getting quantity for product ID: {}", productId);
+        CartSnapshot.Line line = getSnapshot().findByRowId("product-" + productId);
+        if (line == null) {
+            logger.warn("Failed to get quantity for product {}: not in cart", productId);
             return 0;
         }
+        logger.info("Product ID {} has quantity: {}", productId, line.getQuantity());
+        return line.getQuantity();
     }
 
     /**
@@ -384,43 +316,30 @@ public class CartPage {
      * Retrieves unit price text for product id.
      */
     public String getProductPrice(String productId) {
-        try {
-            logger.info("Getting price for product ID: {}", productId);
-            WebElement priceElement = driver.findElement(
-                    By.xpath("//tr[@id='product-" + productId + "']//td[@class='cart_price']/p"));
-            String price = priceElement.getText().trim();
-            logger.info("Product ID {} price: {}", productId, price);
-            return price;
-        } catch (Exception e) {
-            logger.warn("Failed to get price for product {}: {}", productId, e.getMessage());
-            return "";
-        }
+        logger.info("Getting price for product ID: {}", productId);
+        CartSnapshot.Line line = getSnapshot().findByRowId("product-" + productId);
+        String price = line == null ? "" : line.getPriceText();
+        logger.info("Product ID {} price: {}", productId, price);
+        return price;
     }
 
     /**
      * Retrieves line total for product id.
      */
     public String getProductTotal(String productId) {
-        try {
-            logger.info("Getting total for product ID: {}", productId);
-            WebElement totalElement = driver.findElement(
-                    By.xpath("//tr[@id='product-" + productId + "']//td[@class='cart_total']/p"));
-            String total = totalElement.getText().trim();
-            logger.info("Product ID {} total: {}", productId, total);
-            return total;
-        } catch (Exception e) {
-            logger.warn("Failed to get total for product {}: {}", productId, e.getMessage());
-            return "";
-        }
+        logger.info("Getting total for product ID: {}", productId);
+        CartSnapshot.Line line = getSnapshot().findByRowId("product-" + productId);
+        String total = line == null ? "" : line.getTotalText();
+        logger.info("Product ID {} total: {}", productId, total);
+        return total;
     }
 
     /**
-     * Returns current count of cart rows (after all fallback strategies).
+     * Returns current count of cart rows.
      */
     public int getCartItemCount() {
         logger.info("Getting cart item count");
-        WebElement[] rows = getAllRows();
-        int count = rows != null ? rows.length : 0;
+        int count = getSnapshot().size();
         logger.info("Cart contains {} items", count);
         return count;
     }
@@ -429,26 +348,19 @@ public class CartPage {
      * Infers logged-in status by visibility of logout link.
      */
     public boolean isUserLoggedIn() {
-        try {
-            logger.debug("Checking if user is logged in");
-            boolean loggedIn = driver.findElement(logoutLink).isDisplayed();
-            logger.info("User logged in status: {}", loggedIn);
-            return loggedIn;
-        } catch (Exception e) {
-            logger.info("User is not logged in");
-            return false;
-        }
+        logger.debug("Checking if user is logged in");
+        boolean loggedIn = ElementProbe.isDisplayed(driver, logoutLink);
+        logger.info("User logged in status: {}", loggedIn);
+        return loggedIn;
     }
     
     /**
-     * Waits up to 10s for inline checkout modal.
+     * Waits up to 10s for inline checkout modal, evaluated in the page as it animates in.
      * @return true if displayed, false if timeout/absent
      */
     public boolean isCheckoutModalDisplayed() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            wait.until(ExpectedConditions.visibilityOfElementLocated(cartCheckOutModal));
-            return driver.findElement(cartCheckOutModal).isDisplayed();
+            return WaitEngine.untilInPage(driver, WaitEngine.Span.DEFAULT, InPageCondition.visible(cartCheckOutModal));
         } catch (Exception e) {
             return false;
         }
@@ -0,0 +1,272 @@
+package selenium.automation.framework.pages;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Immutable view of the cart table, read with a single script call.
+ *
+ * <p>Every row (row id, product id, name, unit price, quantity, line total and the row element)
+ * and the cart total are collected inside the page and returned together, so reading a cart of
+ * any size costs one driver command instead of one per row and field. Prices are kept as the
+ * displayed text and parsed to {@link BigDecimal}. Rows are indexed by position, row id and
+ * product id.</p>
+ *
+ * <p>A snapshot does not follow the page: {@link CartPage} drops its cached snapshot whenever it
+ * mutates the cart or navigates.</p>
+ */
+public final class CartSnapshot {
+
+    /** Snapshot of a cart without rows */
+    public static final CartSnapshot EMPTY = new CartSnapshot(Collections.emptyList(), "");
+
+    private static final Pattern AMOUNT = Pattern.compile("\\d[\\d,]*(\\.\\d+)?");
+
+    // Collects all cart rows and the total in one pass; null while the cart table is not rendered
+    private static final String READ_SCRIPT =
+            "var table = document.getElementById('cart_info_table');"
+            + "if (!table || document.readyState === 'loading') { return null; }"
+            + "function text(root, selector) {"
+            + "  var element = root.querySelector(selector);"
+            + "  return element ? (element.innerText || element.textContent || '').trim() : '';"
+            + "}"
+            + "var rows = table.querySelectorAll('tbody > tr');"
+            + "if (rows.length === 0) { rows = table.querySelectorAll('tr[id^=\"product-\"]'); }"
+            + "var lines = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = rows[i], content = (row.innerText || row.textContent || '').trim();"
+            + "  if (!content || content.indexOf('Cart is empty') >= 0) { continue; }"
+            + "  var holder = row.querySelector('td[data-product-id]') || row.querySelector('[data-product-id]');"
+            + "  lines.push({ element: row, rowId: row.id || '',"
+            + "      productId: holder ? holder.getAttribute('data-product-id') : '',"
+            + "      name: text(row, '.cart_description h4'),"
+            + "      price: text(row, 'td.cart_price'),"
+            + "      quantity: text(row, 'td.cart_quantity button') || text(row, 'button.disabled'),"
+            + "      total: text(row, 'td.cart_total') });"
+            + "}"
+            + "var total = document.evaluate(\"//td[contains(text(),'Total')]/following-sibling::td\", document, null,"
+            + "    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "var totalText = total ? (total.innerText || total.textContent || '').trim() : '';"
+            + "if (!totalText) { totalText = text(document, 'h4.cart_total_price'); }"
+            + "return { lines: lines, total: totalText };";
+
+    /** Wait condition producing a snapshot once the cart table is rendered */
+    static final Function<WebDriver, CartSnapshot> READ = new Function<WebDriver, CartSnapshot>() {
+        @Override
+        public CartSnapshot apply(WebDriver driver) {
+            return read(driver);
+        }
+
+        @Override
+        public String toString() {
+            return "cart snapshot";
+        }
+    };
+
+    private final List<Line> lines;
+    private final Map<String, Line> byRowId = new LinkedHashMap<>();
+    private final Map<String, Line> byProductId = new LinkedHashMap<>();
+    private final String cartTotalText;
+
+    private CartSnapshot(List<Line> lines, String cartTotalText) {
+        this.lines = Collections.unmodifiableList(lines);
+        this.cartTotalText = cartTotalText;
+        for (Line line : lines) {
+            if (!line.rowId.isEmpty()) {
+                byRowId.putIfAbsent(line.rowId, line);
+            }
+            if (!line.productId.isEmpty()) {
+                byProductId.putIfAbsent(line.productId, line);
+            }
+        }
+    }
+
+    /**
+     * Reads the cart in one script call.
+     * @param driver session showing the cart page
+     * @return snapshot, or null if the cart table is not rendered yet
+     */
+    @SuppressWarnings("unchecked")
+    static CartSnapshot read(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_SCRIPT);
+        if (!(result instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> cart = (Map<String, Object>) result;
+        List<Line> lines = new ArrayList<>();
+        for (Object row : (List<Object>) cart.get("lines")) {
+            lines.add(new Line((Map<String, Object>) row));
+        }
+        return new CartSnapshot(lines, string(cart.get("total")));
+    }
+
+    /** @return rows in table order */
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    /**
+     * @param index zero-based row position
+     * @return row at the position
+     */
+    public Line getLine(int index) {
+        return lines.get(index);
+    }
+
+    /** @return number of product rows */
+    public int size() {
+        return lines.size();
+    }
+
+    /** @return true if the cart has no product rows */
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    /**
+     * @param rowId row element id, e.g. product-1
+     * @return the row, or null if absent
+     */
+    public Line findByRowId(String rowId) {
+        return byRowId.get(rowId);
+    }
+
+    /**
+     * @param productId data-product-id of the row
+     * @return the row, or null if absent
+     */
+    public Line findByProductId(String productId) {
+        return byProductId.get(productId);
+    }
+
+    /** @return cart total as displayed, or empty string if the page shows none */
+    public String getCartTotalText() {
+        return cartTotalText;
+    }
+
+    /** @return displayed cart total, or the sum of the line totals if the page shows none */
+    public BigDecimal getCartTotal() {
+        BigDecimal displayed = parseAmount(cartTotalText);
+        if (displayed != null) {
+            return displayed;
+        }
+        BigDecimal sum = BigDecimal.ZERO;
+        for (Line line : lines) {
+            if (line.total != null) {
+                sum = sum.add(line.total);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "CartSnapshot[rows=" + lines.size() + ", total=" + getCartTotal() + "]";
+    }
+
+    /**
+     * Extracts the first number from a displayed amount such as {@code Rs. 1,500}.
+     * @param text displayed amount
+     * @return parsed amount, or null if the text holds no number
+     */
+    static BigDecimal parseAmount(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = AMOUNT.matcher(text);
+        return matcher.find() ? new BigDecimal(matcher.group().replace(",", "")) : null;
+    }
+
+    private static String string(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+
+    /** One product row of the cart. */
+    public static final class Line {
+        private final WebElement element;
+        private final String rowId;
+        private final String productId;
+        private final String name;
+        private final String priceText;
+        private final BigDecimal price;
+        private final int quantity;
+        private final String totalText;
+        private final BigDecimal total;
+
+        private Line(Map<String, Object> row) {
+            this.element = (WebElement) row.get("element");
+            this.rowId = string(row.get("rowId"));
+            String productId = string(row.get("productId"));
+            this.productId = productId.isEmpty() && rowId.startsWith("product-")
+                    ? rowId.substring("product-".length()) : productId;
+            this.name = string(row.get("name"));
+            this.priceText = string(row.get("price"));
+            this.price = parseAmount(priceText);
+            BigDecimal quantity = parseAmount(string(row.get("quantity")));
+            this.quantity = quantity == null ? 0 : quantity.intValue();
+            this.totalText = string(row.get("total"));
+            this.total = parseAmount(totalText);
+        }
+
+        /** @return row element as of the snapshot */
+        public WebElement getElement() {
+            return element;
+        }
+
+        /** @return row element id (e.g. product-1), empty if none */
+        public String getRowId() {
+            return rowId;
+        }
+
+        /** @return product id of the row, empty if unknown */
+        public String getProductId() {
+            return productId;
+        }
+
+        /** @return product name */
+        public String getName() {
+            return name;
+        }
+
+        /** @return unit price as displayed */
+        public String getPriceText() {
+            return priceText;
+        }
+
+        /** @return parsed unit price, or null if not numeric */
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        /** @return quantity, 0 if not shown */
+        public int getQuantity() {
+            return quantity;
+        }
+
+        /** @return line total as displayed */
+        public String getTotalText() {
+            return totalText;
+        }
+
+        /** @return parsed line total, or null if not numeric */
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return rowId + "[" + name + " x" + quantity + " @ " + priceText + " = " + totalText + "]";
+        }
+    }
+}
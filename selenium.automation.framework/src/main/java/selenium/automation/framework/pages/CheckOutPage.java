@@ -1,18 +1,21 @@
 package selenium.automation.framework.pages;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import selenium.automation.framework.core.AnyOf;
 import selenium.automation.framework.core.ConfigManager;
-
-import java.time.Duration;
+import selenium.automation.framework.core.WaitEngine;
 
 /**
  * Page Object for Checkout workflow.
@@ -23,7 +26,7 @@ import java.time.Duration;
  *
  * Resilience:
  *  - Uses explicit waits for visibility/clickability to mitigate dynamic ads.
- *  - Order placement verification attempts multiple signals (heading, alt text, URL heuristic).
+ *  - Order placement verification races multiple signals (heading, alt text, URL heuristic).
  */
 @SuppressWarnings("null")
 public class CheckOutPage {
@@ -49,6 +52,8 @@ public class CheckOutPage {
     // Order confirmation locators
     private By orderPlacedMessage = By.xpath("//h2[contains(text(),'Order Placed!')]");
     private By orderConfirmationText = By.xpath("//p[contains(text(),'Congratulations')]");
+    private By orderSuccessText = By.xpath(
+            "//p[contains(text(),'Congratulations') or contains(text(),'order has been placed')]");
     private By continueBtn = By.xpath("//a[contains(text(),'Continue')]");
 
     /**
@@ -61,11 +66,10 @@ public class CheckOutPage {
     }
 
     /**
-     * Opens checkout page and maximizes for consistent layout.
+     * Opens checkout page (layout relies on the launch profile window size).
      */
     public void openCheckoutPage() {
-        driver.get(checkoutPageUrl);
-        driver.manage().window().maximize();
+        NavigationManager.open(driver, checkoutPageUrl);
     }
 
     /**
@@ -74,7 +78,7 @@ public class CheckOutPage {
      */
     public void addCommentToOrder(String comment) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            Wait<WebDriver> wait = WaitEngine.get(driver);
             WebElement commentBox = wait.until(ExpectedConditions.visibilityOfElementLocated(commentTextArea));
             commentBox.clear();
             commentBox.sendKeys(comment);
@@ -87,10 +91,11 @@ public class CheckOutPage {
      * Initiates transition from address/comment section to payment form.
      */
     public void clickPlaceOrder() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        Wait<WebDriver> wait = WaitEngine.get(driver);
         try {
             WebElement placeOrder = wait.until(ExpectedConditions.elementToBeClickable(placeOrderBtn));
             placeOrder.click();
+            ElementCache.invalidate(driver);
             return;
         } catch (ElementClickInterceptedException ice) {
             logger.warn("Place Order click intercepted (likely ad iframe). Applying fallbacks.");
@@ -103,11 +108,13 @@ public class CheckOutPage {
                 try {
                     placeOrder.click();
                     logger.info("Place Order clicked after removing overlay iframes.");
+                    ElementCache.invalidate(driver);
                     return;
                 } catch (ElementClickInterceptedException ice2) {
                     logger.warn("Second interception; attempting JS click.");
                     ((JavascriptExecutor) driver).executeScript("arguments[0].click();", placeOrder);
                     logger.info("Place Order triggered via JS click fallback.");
+                    ElementCache.invalidate(driver);
                     return;
                 }
             } catch (Exception inner) {
@@ -119,14 +126,14 @@ public class CheckOutPage {
         // Final fallback: direct navigation if button still not actionable
         try {
             logger.warn("Navigating directly to payment page as last resort.");
-            driver.get("https://automationexercise.com/payment");
+            NavigationManager.open(driver, "https://automationexercise.com/payment");
         } catch (Exception navE) {
             throw new RuntimeException("Failed to click place order button", navE);
         }
     }
 
     /**
-     * Populates payment form fields in sequence.
+     * Populates payment form fields in one script call once the form is visible.
      * @param nameOnCard card holder name
      * @param cardNumber raw card number (test data)
      * @param cvc security code
@@ -136,28 +143,16 @@ public class CheckOutPage {
     public void fillPaymentDetails(String nameOnCard, String cardNumber, String cvc, String expiryMonth,
             String expiryYear) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-            WebElement nameOnCardField = wait.until(ExpectedConditions.visibilityOfElementLocated(nameOnCardInput));
-            nameOnCardField.clear();
-            nameOnCardField.sendKeys(nameOnCard);
-
-            WebElement cardNumberField = driver.findElement(cardNumberInput);
-            cardNumberField.clear();
-            cardNumberField.sendKeys(cardNumber);
-
-            WebElement cvcField = driver.findElement(cvcInput);
-            cvcField.clear();
-            cvcField.sendKeys(cvc);
-
-            WebElement expiryMonthField = driver.findElement(expiryMonthInput);
-            expiryMonthField.clear();
-            expiryMonthField.sendKeys(expiryMonth);
-
-            WebElement expiryYearField = driver.findElement(expiryYearInput);
-            expiryYearField.clear();
-            expiryYearField.sendKeys(expiryYear);
+            Wait<WebDriver> wait = WaitEngine.get(driver);
+            wait.until(ExpectedConditions.visibilityOfElementLocated(nameOnCardInput));
 
+            Map<By, String> fields = new LinkedHashMap<>();
+            fields.put(nameOnCardInput, nameOnCard);
+            fields.put(cardNumberInput, cardNumber);
+            fields.put(cvcInput, cvc);
+            fields.put(expiryMonthInput, expiryMonth);
+            fields.put(expiryYearInput, expiryYear);
+            FormFiller.fill(driver, fields);
         } catch (Exception e) {
             throw new RuntimeException("Failed to fill payment details", e);
         }
@@ -169,11 +164,12 @@ public class CheckOutPage {
      */
     public void clickPayAndConfirm() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            Wait<WebDriver> wait = WaitEngine.get(driver);
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].scrollIntoView(true);", driver.findElement(payAndConfirmBtn));
             WebElement payBtn = wait.until(ExpectedConditions.elementToBeClickable(payAndConfirmBtn));
             payBtn.click();
+            ElementCache.invalidate(driver);
         } catch (Exception e) {
             throw new RuntimeException("Failed to click pay and confirm button", e);
         }
@@ -181,51 +177,40 @@ public class CheckOutPage {
 
     /**
      * Determines if order completion succeeded.
-     * Strategy order: heading -> alt success text -> URL heuristic.
-     * @return true if success indicators found.
+     * Success signals (heading, alt success text, URL heuristic) are raced in one wait,
+     * so whichever the page shows is recognised within a poll cycle.
+     * @return true if a success indicator appeared within the long wait span.
      */
     public boolean isOrderPlaced() {
         try {
             logger.info("Checking if order was placed successfully");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-
-            // Try primary locator - Order Placed heading
-            try {
-                WebElement orderPlaced = wait.until(ExpectedConditions.visibilityOfElementLocated(orderPlacedMessage));
-                logger.info("Order placed message found: {}", orderPlaced.getText());
-                return orderPlaced.isDisplayed();
-            } catch (Exception e1) {
-                logger.warn("Primary order placed locator not found, trying alternative locators");
-
-                // Try alternative locator - look for success message
-                try {
-                    By alternativeLocator = By.xpath(
-                            "//p[contains(text(),'Congratulations') or contains(text(),'order has been placed')]");
-                    WebElement successMsg = wait
-                            .until(ExpectedConditions.visibilityOfElementLocated(alternativeLocator));
-                    logger.info("Order success message found: {}", successMsg.getText());
-                    return successMsg.isDisplayed();
-                } catch (Exception e2) {
-                    logger.warn("Alternative locator also failed, trying URL check");
-
-                    // Check if URL contains success/confirmation page
-                    String currentUrl = driver.getCurrentUrl();
-                    if (currentUrl != null && (currentUrl.contains("payment_done") || currentUrl.contains("success")
-                            || currentUrl.contains("confirmation"))) {
-                        logger.info("Order success detected from URL: {}", currentUrl);
-                        return true;
-                    }
-
-                    logger.error("Could not confirm order placement - no success indicators found");
-                    return false;
-                }
+            AnyOf<String> placed = AnyOf.<String>of("heading", d -> displayedText(d, orderPlacedMessage))
+                    .or("success text", d -> displayedText(d, orderSuccessText))
+                    .or("url", d -> {
+                        String currentUrl = d.getCurrentUrl();
+                        return currentUrl != null && (currentUrl.contains("payment_done")
+                                || currentUrl.contains("success") || currentUrl.contains("confirmation"))
+                                ? currentUrl : null;
+                    });
+            AnyOf.Match<String> match = WaitEngine.untilAny(driver, WaitEngine.Span.LONG, placed);
+            if (match == null) {
+                logger.error("Could not confirm order placement - no success indicators found");
+                return false;
             }
+            logger.info("Order placement confirmed by {}: {}", match.name(), match.value());
+            return true;
         } catch (Exception e) {
             logger.error("Error checking order placement: {}", e.getMessage());
             return false;
         }
     }
 
+    /** @return text of the first displayed match, or null if none is displayed yet */
+    private static String displayedText(WebDriver driver, By locator) {
+        WebElement element = ElementProbe.firstDisplayed(driver, locator);
+        return element == null ? null : element.getText();
+    }
+
     /**
      * Returns textual confirmation paragraph if present, else empty string.
      */
@@ -245,6 +230,7 @@ public class CheckOutPage {
         try {
             WebElement continueButton = driver.findElement(continueBtn);
             continueButton.click();
+            ElementCache.invalidate(driver);
         } catch (Exception e) {
             throw new RuntimeException("Failed to click continue button", e);
         }
@@ -255,7 +241,7 @@ public class CheckOutPage {
      */
     public boolean isAddressFormDisplayed() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            Wait<WebDriver> wait = WaitEngine.get(driver);
             wait.until(ExpectedConditions.visibilityOfElementLocated(commentTextArea));
             return true;
         } catch (Exception e) {
@@ -268,7 +254,7 @@ public class CheckOutPage {
      */
     public boolean isPaymentFormDisplayed() {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            Wait<WebDriver> wait = WaitEngine.get(driver);
             wait.until(ExpectedConditions.visibilityOfElementLocated(nameOnCardInput));
             return true;
         } catch (Exception e) {
@@ -0,0 +1,108 @@
+package selenium.automation.framework.pages;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Element handles cached per session, keyed by locator and page-state version.
+ *
+ * <p>{@link #find(WebDriver, By)} locates an element once and returns a handle that later calls
+ * for the same locator get back without a {@code findElement} round trip. The handle is a
+ * {@link SelfHealingElement}: when the element has gone stale (the page navigated or re-rendered
+ * it) the session's cache is cleared and the handle finds the element again and retries the
+ * call, so callers do not see the {@code StaleElementReferenceException}.</p>
+ *
+ * <p>Every session has a page-state version. It is bumped by {@link #invalidate(WebDriver)},
+ * which page objects call when they navigate, and whenever a stale handle is detected;
+ * bumping drops all handles of the session. State derived from the page (such as
+ * {@link CartSnapshot}) can be tied to {@link #version(WebDriver)} the same way.</p>
+ *
+ * <p>Only cache elements that a locator identifies uniquely for the lifetime of a page (links,
+ * form inputs, buttons). Row lists and other content that changes in place should be looked up
+ * fresh, e.g. with {@link ElementProbe}.</p>
+ */
+public final class ElementCache {
+
+    private static final Map<WebDriver, Session> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private ElementCache() {
+    }
+
+    /**
+     * Returns the cached handle for the locator, locating the element (with the implicit wait)
+     * if this page state has no handle for it yet.
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @return stale-safe element handle
+     * @throws org.openqa.selenium.NoSuchElementException if the element cannot be located
+     */
+    public static WebElement find(WebDriver driver, By locator) {
+        Session session = session(driver);
+        String key = locator.toString();
+        synchronized (session) {
+            WebElement handle = session.handles.get(key);
+            if (handle != null) {
+                hits.incrementAndGet();
+                return handle;
+            }
+        }
+        misses.incrementAndGet();
+        // A stale handle means the document changed under us; every other handle is suspect too
+        WebElement proxy = SelfHealingElement.wrap(driver, locator, 0, driver.findElement(locator),
+                () -> invalidate(driver));
+        synchronized (session) {
+            WebElement raced = session.handles.putIfAbsent(key, proxy);
+            return raced != null ? raced : proxy;
+        }
+    }
+
+    /**
+     * Starts a new page state for the session: all cached handles are dropped.
+     * @param driver active WebDriver
+     */
+    public static void invalidate(WebDriver driver) {
+        Session session = session(driver);
+        synchronized (session) {
+            session.version++;
+            session.handles.clear();
+        }
+    }
+
+    /**
+     * @param driver active WebDriver
+     * @return current page-state version of the session
+     */
+    public static long version(WebDriver driver) {
+        Session session = session(driver);
+        synchronized (session) {
+            return session.version;
+        }
+    }
+
+    /** @return one-line summary of cache effectiveness for the run */
+    public static String summary() {
+        long found = hits.get() + misses.get();
+        return "ElementCache[lookups=" + found + ", hits=" + hits.get()
+                + ", hitRate=" + (found == 0 ? 0 : hits.get() * 100 / found) + "%]";
+    }
+
+    private static Session session(WebDriver driver) {
+        return sessions.computeIfAbsent(driver, key -> new Session());
+    }
+
+    /** Cached handles of one session for its current page state. */
+    private static final class Session {
+        private final Map<String, WebElement> handles = new HashMap<>();
+        private long version;
+    }
+}
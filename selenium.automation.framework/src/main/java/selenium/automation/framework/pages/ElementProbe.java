@@ -0,0 +1,171 @@
+package selenium.automation.framework.pages;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.InPageCondition;
+import selenium.automation.framework.core.TabMultiplexer;
+
+/**
+ * Zero-wait element probes for negative and optional checks in page objects.
+ *
+ * <p>BaseTest sets a 10 s implicit wait, so a plain {@code findElements} that finds nothing
+ * blocks for the full 10 s, which is the happy path of every "is it absent?" check. The
+ * probes here answer immediately:</p>
+ * <ul>
+ *   <li>id, name, class name, CSS, XPath and tag name locators are evaluated in the page with
+ *       one script call, which never waits</li>
+ *   <li>other locators (relative, link text) run {@code findElements} with the implicit wait
+ *       dropped to zero and restored afterwards, under a per-session lock; tabs of a shared
+ *       browser share its implicit wait, so the sequence runs as one command there
+ *       (see {@link TabMultiplexer#exclusive})</li>
+ * </ul>
+ * {@link #isAbsentWithin(WebDriver, By, Duration)} polls the probe for checks that expect an
+ * element to disappear shortly, such as a cart row after deletion.
+ */
+public final class ElementProbe {
+    /** Logger for diagnostic output */
+    private static final Logger logger = LoggerFactory.getLogger(ElementProbe.class);
+    /** Interval between probes while waiting for absence */
+    private static final Duration ABSENCE_POLL = Duration.ofMillis(50);
+
+    // Elements matching {using, value} in the current document, in document order
+    private static final String FIND_SCRIPT = InPageCondition.FIND_FUNCTION + "return find(arguments[0], arguments[1]);";
+
+    // Serializes implicit-wait toggling per browser session so concurrent probes, including those
+    // of tabs sharing one browser, never restore each other's value
+    private static final Map<WebDriver, ReentrantLock> sessionLocks =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ElementProbe() {
+    }
+
+    /**
+     * Finds all elements matching the locator right now, without waiting. The elements re-find
+     * themselves by locator and position if they go stale (see {@link SelfHealingElement}).
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @return matching elements (empty list if none)
+     */
+    public static List<WebElement> findAll(WebDriver driver, By locator) {
+        List<WebElement> found = findRaw(driver, locator);
+        for (int i = 0; i < found.size(); i++) {
+            found.set(i, SelfHealingElement.wrap(driver, locator, i, found.get(i), null));
+        }
+        return found;
+    }
+
+    /**
+     * Same lookup as {@link #findAll} without wrapping the elements.
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @return matching elements (mutable, empty list if none)
+     */
+    static List<WebElement> findRaw(WebDriver driver, By locator) {
+        if (locator instanceof By.Remotable) {
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            String using = parameters.using();
+            if ("css selector".equals(using) || "xpath".equals(using) || "tag name".equals(using)) {
+                return inPage(driver, using, String.valueOf(parameters.value()));
+            }
+        }
+        return withoutImplicitWait(driver, locator);
+    }
+
+    /**
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @return true if at least one matching element is in the DOM right now
+     */
+    public static boolean isPresent(WebDriver driver, By locator) {
+        return !findAll(driver, locator).isEmpty();
+    }
+
+    /**
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @return true if the first matching element exists and is displayed right now
+     */
+    public static boolean isDisplayed(WebDriver driver, By locator) {
+        return firstDisplayed(driver, locator) != null;
+    }
+
+    /**
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @return the first matching element if it exists and is displayed right now, else null
+     */
+    public static WebElement firstDisplayed(WebDriver driver, By locator) {
+        List<WebElement> found = findAll(driver, locator);
+        try {
+            return !found.isEmpty() && found.get(0).isDisplayed() ? found.get(0) : null;
+        } catch (StaleElementReferenceException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits until no element matches the locator, probing every 50 ms.
+     * @param driver active WebDriver
+     * @param locator element locator
+     * @param timeout maximum time to wait for absence
+     * @return true if absent within the timeout, false if still present
+     */
+    public static boolean isAbsentWithin(WebDriver driver, By locator, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            if (!isPresent(driver, locator)) {
+                return true;
+            }
+            if (System.nanoTime() >= deadline) {
+                logger.debug("Still present after {} ms: {}", timeout.toMillis(), locator);
+                return false;
+            }
+            try {
+                Thread.sleep(ABSENCE_POLL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> inPage(WebDriver driver, String using, String value) {
+        Object result = ((JavascriptExecutor) driver).executeScript(FIND_SCRIPT, using, value);
+        return result instanceof List ? new ArrayList<>((List<WebElement>) result) : new ArrayList<>();
+    }
+
+    private static List<WebElement> withoutImplicitWait(WebDriver driver, By locator) {
+        ReentrantLock lock = sessionLocks.computeIfAbsent(TabMultiplexer.hostOf(driver), key -> new ReentrantLock());
+        lock.lock();
+        try {
+            // Other tabs of a shared browser must not run lookups while its wait is zero
+            return TabMultiplexer.exclusive(driver, () -> {
+                WebDriver.Timeouts timeouts = driver.manage().timeouts();
+                Duration previous = timeouts.getImplicitWaitTimeout();
+                timeouts.implicitlyWait(Duration.ZERO);
+                try {
+                    return new ArrayList<>(driver.findElements(locator));
+                } finally {
+                    timeouts.implicitlyWait(previous);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+}
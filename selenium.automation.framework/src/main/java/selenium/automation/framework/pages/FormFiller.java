@@ -0,0 +1,160 @@
+package selenium.automation.framework.pages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.InPageCondition;
+
+/**
+ * Fills a whole form in one script call.
+ *
+ * <p>Page objects pass an ordered locator-to-value map. Every field the page can resolve (id,
+ * name, class name, CSS, XPath or tag name locators) is set inside the browser in one
+ * {@code executeScript}, and each field gets the events a user would fire
+ * ({@code input} and {@code change}, plus a click for radio buttons and checkboxes):</p>
+ * <ul>
+ *   <li>text inputs and text areas get the value through the native value setter, so
+ *       framework-bound inputs see the change</li>
+ *   <li>selects pick the option with the given value, else the one with the given visible text</li>
+ *   <li>radio buttons and checkboxes are checked for "true", unchecked for "false"</li>
+ * </ul>
+ * Fields that need real keystrokes fall back to native {@code clear}/{@code sendKeys} (or
+ * {@link Select} for selects). That covers file inputs, content-editable elements, values the
+ * page rewrote while setting, locators the page cannot resolve, and elements not rendered yet,
+ * where the native path still honours the implicit wait. Null values are skipped.
+ */
+public final class FormFiller {
+    /** Logger for diagnostic output */
+    private static final Logger logger = LoggerFactory.getLogger(FormFiller.class);
+
+    // Sets each {using, locator value, value} field; returns a status per field:
+    // ok, keys (needs native keystrokes), missing (not rendered) or noOption (select without match)
+    private static final String FILL_SCRIPT = InPageCondition.FIND_FUNCTION
+            + "function fire(element, type) { element.dispatchEvent(new Event(type, { bubbles: true })); }"
+            + "function setValue(element, value) {"
+            + "  var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+            + "  var setter = Object.getOwnPropertyDescriptor(prototype, 'value').set;"
+            + "  if (element.focus) { element.focus(); }"
+            + "  setter.call(element, value);"
+            + "  fire(element, 'input'); fire(element, 'change');"
+            + "  return element.value === value ? 'ok' : 'keys';"
+            + "}"
+            + "function selectOption(element, value) {"
+            + "  var options = element.options, index = -1;"
+            + "  for (var i = 0; i < options.length && index < 0; i++) { if (options[i].value === value) { index = i; } }"
+            + "  for (var j = 0; j < options.length && index < 0; j++) {"
+            + "    if (options[j].text.replace(/\\s+/g, ' ').trim() === value) { index = j; }"
+            + "  }"
+            + "  if (index < 0) { return 'noOption'; }"
+            + "  element.selectedIndex = index;"
+            + "  fire(element, 'input'); fire(element, 'change');"
+            + "  return 'ok';"
+            + "}"
+            + "function fill(using, locator, value) {"
+            + "  var element = find(using, locator)[0];"
+            + "  if (!element) { return 'missing'; }"
+            + "  if (element.isContentEditable || element.type === 'file') { return 'keys'; }"
+            + "  if (element.tagName === 'SELECT') { return selectOption(element, value); }"
+            + "  if (element.type === 'radio' || element.type === 'checkbox') {"
+            + "    if (element.checked !== (value === 'true')) { element.click(); }"
+            + "    return 'ok';"
+            + "  }"
+            + "  if (element.tagName === 'INPUT' || element.tagName === 'TEXTAREA') { return setValue(element, value); }"
+            + "  return 'keys';"
+            + "}"
+            + "var fields = arguments[0], statuses = [];"
+            + "for (var f = 0; f < fields.length; f++) { statuses.push(fill(fields[f][0], fields[f][1], fields[f][2])); }"
+            + "return statuses;";
+
+    private FormFiller() {
+    }
+
+    /**
+     * Sets every field of the form, in map order.
+     * @param driver active WebDriver
+     * @param values locator to value; use "true"/"false" for radio buttons and checkboxes
+     * @throws NoSuchElementException if a select has no option with the value or visible text
+     *         (all other fields are filled first), or if a field cannot be found natively
+     */
+    public static void fill(WebDriver driver, Map<By, String> values) {
+        List<By> inPage = new ArrayList<>();
+        List<List<String>> fields = new ArrayList<>();
+        List<By> typed = new ArrayList<>();
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            String[] parameters = inPageParameters(entry.getKey());
+            if (parameters == null) {
+                typed.add(entry.getKey());
+            } else {
+                inPage.add(entry.getKey());
+                fields.add(List.of(parameters[0], parameters[1], entry.getValue()));
+            }
+        }
+
+        List<By> noOption = new ArrayList<>();
+        if (!fields.isEmpty()) {
+            List<?> statuses = (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, fields);
+            for (int i = 0; i < inPage.size(); i++) {
+                String status = String.valueOf(statuses.get(i));
+                if ("noOption".equals(status)) {
+                    noOption.add(inPage.get(i));
+                } else if (!"ok".equals(status)) {
+                    logger.debug("Field {} needs native input ({})", inPage.get(i), status);
+                    typed.add(inPage.get(i));
+                }
+            }
+        }
+        for (By locator : typed) {
+            fillNatively(driver, locator, values.get(locator));
+        }
+        logger.debug("Filled {} fields in one script call, {} natively", fields.size(), typed.size());
+        if (!noOption.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate option for select(s): " + noOption);
+        }
+    }
+
+    private static void fillNatively(WebDriver driver, By locator, String value) {
+        WebElement element = driver.findElement(locator);
+        String type = element.getAttribute("type");
+        if ("select".equals(element.getTagName())) {
+            Select select = new Select(element);
+            try {
+                select.selectByValue(value);
+            } catch (NoSuchElementException e) {
+                select.selectByVisibleText(value);
+            }
+        } else if ("radio".equals(type) || "checkbox".equals(type)) {
+            if (element.isSelected() != Boolean.parseBoolean(value)) {
+                element.click();
+            }
+        } else {
+            element.clear();
+            element.sendKeys(value);
+        }
+    }
+
+    /** @return {using, value} if the page can resolve the locator, else null */
+    private static String[] inPageParameters(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String using = parameters.using();
+        if ("css selector".equals(using) || "xpath".equals(using) || "tag name".equals(using)) {
+            return new String[] { using, String.valueOf(parameters.value()) };
+        }
+        return null;
+    }
+}
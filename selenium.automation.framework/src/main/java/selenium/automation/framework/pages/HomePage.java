@@ -3,18 +3,18 @@ package selenium.automation.framework.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
-
 import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.WaitEngine;
 
 /**
  * Page Object for application Home page.
  * Provides navigation entry points to major flows: login/signup, products, cart, delete account.
  * Simplicity retained: each method performs direct single action with logging.
+ * Header links are reused from {@link ElementCache}; navigating clicks start a new page state.
  */
 @SuppressWarnings("null")
 public class HomePage {
@@ -36,19 +36,19 @@ public class HomePage {
         logger.info("HomePage initialized");
     }
 
-    /** Opens home page and maximizes window. */
+    /** Opens home page (window size is applied once at launch). */
     public void openHomePage() {
         logger.info("Navigating to HomePage: {}", HomePageUrl);
-        driver.get(HomePageUrl);
-        driver.manage().window().maximize();
-        logger.info("HomePage opened and window maximized");
+        NavigationManager.open(driver, HomePageUrl);
+        logger.info("HomePage opened");
     }
 
     /** Clicks signup/login link. Returns displayed state post-click for assertion. */
     public boolean clickSignupLogin() {
         logger.info("Clicking on Signup/Login link");
-        driver.findElement(signupLoginLink).click();
-        boolean isDisplayed = driver.findElement(signupLoginLink).isDisplayed();
+        ElementCache.find(driver, signupLoginLink).click();
+        ElementCache.invalidate(driver);
+        boolean isDisplayed = ElementCache.find(driver, signupLoginLink).isDisplayed();
         logger.info("Signup/Login link clicked, displayed: {}", isDisplayed);
         return isDisplayed;
     }
@@ -56,8 +56,9 @@ public class HomePage {
     /** Clicks products link. Returns enabled state for assertion. */
     public boolean clickProducts() {
         logger.info("Clicking on Products link");
-        driver.findElement(productslink).click();
-        boolean isEnabled = driver.findElement(productslink).isEnabled();
+        ElementCache.find(driver, productslink).click();
+        ElementCache.invalidate(driver);
+        boolean isEnabled = ElementCache.find(driver, productslink).isEnabled();
         logger.info("Products link clicked, enabled: {}", isEnabled);
         return isEnabled;
     }
@@ -65,12 +66,14 @@ public class HomePage {
     /** Navigates to cart page via header link. */
     public void clickCart() {
         logger.info("Clicking on Cart link");
-        driver.findElement(cartLink).click();
+        ElementCache.find(driver, cartLink).click();
+        ElementCache.invalidate(driver);
         logger.info("Cart link clicked successfully");
     }
     /** Clicks delete account link using explicit wait for stability. */
     public void clickDeleteAccount() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        Wait<WebDriver> wait = WaitEngine.get(driver);
         wait.until(ExpectedConditions.elementToBeClickable(deleteAccountLink)).click();
+        ElementCache.invalidate(driver);
     }
 }
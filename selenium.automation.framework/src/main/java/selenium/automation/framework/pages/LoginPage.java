@@ -10,7 +10,10 @@ import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import selenium.automation.framework.core.AnyOf;
 import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.InPageCondition;
+import selenium.automation.framework.core.WaitEngine;
 
 @SuppressWarnings("null")
 public class LoginPage {
@@ -41,14 +44,14 @@ public class LoginPage {
     }
 
     /**
-     * Navigates the browser to the configured login page and maximizes the window.
-     * Safe to call multiple times.
+     * Navigates the browser to the configured login page.
+     * Window size is applied once at launch by the active launch profile.
+     * Safe to call multiple times; the page is not reloaded while it is still showing unchanged.
      */
     public void openLoginPage() {
         logger.info("Navigating to LoginPage: {}", loginPageUrl);
-        driver.get(loginPageUrl);
-        driver.manage().window().maximize();
-        logger.info("LoginPage opened and window maximized");
+        NavigationManager.open(driver, loginPageUrl);
+        logger.info("LoginPage opened");
     }
 
     /**
@@ -57,7 +60,7 @@ public class LoginPage {
      */
     public void enterLoginEmail(String email) {
         logger.info("Entering login email: {}", email);
-        driver.findElement(loginEmailInput).sendKeys(Objects.requireNonNull(email, "email must not be null"));
+        ElementCache.find(driver, loginEmailInput).sendKeys(Objects.requireNonNull(email, "email must not be null"));
         logger.debug("Login email entered successfully");
     }
 
@@ -67,7 +70,7 @@ public class LoginPage {
      */
     public void enterLoginPassword(String password) {
         logger.info("Entering login password (masked)");
-        driver.findElement(loginPasswordInput).sendKeys(Objects.requireNonNull(password, "password must not be null")); // Intentionally not logging value
+        ElementCache.find(driver, loginPasswordInput).sendKeys(Objects.requireNonNull(password, "password must not be null")); // Intentionally not logging value
         logger.debug("Login password entered successfully");
     }
 
@@ -80,26 +83,27 @@ public class LoginPage {
         WebElement passwordInputElement = driver.findElement(loginPasswordInput);
         WebElement loginButton = driver.findElement(with(By.tagName("button")).below(passwordInputElement));
         loginButton.click();
+        ElementCache.invalidate(driver);
         logger.info("Login button clicked");
     }
 
     /**
      * Determines whether the error message is currently shown.
-     * Uses findElements pattern to avoid throwing when absent.
+     * Probes without the implicit wait so the absent case returns immediately.
      * @return true if invalid credential banner visible
      */
     public boolean isErrorTextDisplayed() {
-        return !driver.findElements(errorText).isEmpty() && driver.findElement(errorText).isDisplayed();
+        return ElementProbe.isDisplayed(driver, errorText);
     }
 
     /** @return true if email input present and displayed */
     public boolean isLoginEmailInputDisplayed() {
-        return driver.findElement(loginEmailInput).isDisplayed();
+        return ElementCache.find(driver, loginEmailInput).isDisplayed();
     }
 
     /** @return true if password input present and displayed */
     public boolean isLoginPasswordInputDisplayed() {
-        return driver.findElement(loginPasswordInput).isDisplayed();
+        return ElementCache.find(driver, loginPasswordInput).isDisplayed();
     }   
 
     /** @return true if login button (below password) is displayed */
@@ -121,4 +125,49 @@ public class LoginPage {
         clickLoginButton();
         logger.info("Login attempt completed for user: {}", email);
     }
+
+    /**
+     * Logs the user in, restoring the cached session state of the credential when there is a
+     * valid one and logging in through the UI otherwise (see {@link SessionStateCache}). A UI
+     * login that succeeds is captured for later tests. Either way the browser ends on the page
+     * the site lands on after login.
+     * @param email user email
+     * @param password user password
+     */
+    public void loginAs(String email, String password) {
+        if (SessionStateCache.restore(driver, email, password)) {
+            logger.info("Session restored for user: {}", email);
+            return;
+        }
+        openLoginPage();
+        performLogin(email, password);
+        if (isLoggedIn()) {
+            SessionStateCache.capture(driver, email, password);
+        }
+    }
+
+    /**
+     * Races the two outcomes of a submitted login: the logout link of a logged-in session or the
+     * invalid-credentials banner. Neither outcome waits for the other to time out.
+     * @return true if logged in, false if the credentials were rejected, null if neither showed in time
+     */
+    public Boolean awaitLoginOutcome() {
+        AnyOf<Boolean> outcome = AnyOf.<Boolean>of("logged in",
+                        d -> ElementProbe.isDisplayed(d, SessionStateCache.LOGGED_IN_MARKER) ? Boolean.TRUE : null)
+                .or("rejected", d -> ElementProbe.isDisplayed(d, errorText) ? Boolean.TRUE : null);
+        AnyOf.Match<Boolean> match = WaitEngine.untilAny(driver, WaitEngine.Span.DEFAULT, outcome);
+        if (match == null) {
+            logger.warn("Login outcome not shown within the wait");
+            return null;
+        }
+        return "logged in".equals(match.name());
+    }
+
+    /**
+     * Waits for the logout link the site shows to logged-in users.
+     * @return true if the session is logged in
+     */
+    public boolean isLoggedIn() {
+        return WaitEngine.untilInPage(driver, WaitEngine.Span.DEFAULT, InPageCondition.visible(SessionStateCache.LOGGED_IN_MARKER));
+    }
 }
@@ -0,0 +1,107 @@
+package selenium.automation.framework.pages;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.ConfigManager;
+
+/**
+ * Per-session page navigation that skips loads the browser does not need.
+ *
+ * <p>Page objects open their page through {@link #open(WebDriver, String)}. The target is loaded
+ * only if the browser is on a different URL, or if the page changed since this session's last
+ * load, i.e. a page object reported a navigation or mutation through
+ * {@link ElementCache#invalidate(WebDriver)}. Otherwise the page already showing is reused, which
+ * saves a full page load per redundant {@code open*Page()} call in flows such as checkout.
+ * Callers that need a pristine page ask for it with {@code fresh} or {@link #refresh(WebDriver)}.
+ * Every load starts a new {@link ElementCache} page state.</p>
+ *
+ * <p>The window size is not handled here: the active launch profile applies it once when the
+ * session is launched. Skipping can be turned off with {@code navigation.skipRedundant=false}.</p>
+ */
+public final class NavigationManager {
+    /** Logger for diagnostic output */
+    private static final Logger logger = LoggerFactory.getLogger(NavigationManager.class);
+
+    private static final boolean SKIP_REDUNDANT = ConfigManager.getBooleanProperty("navigation.skipRedundant", true);
+
+    // Page-state version of the session right after its last load by this class
+    private static final Map<WebDriver, Long> loadedVersions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong loads = new AtomicLong();
+    private static final AtomicLong skipped = new AtomicLong();
+
+    private NavigationManager() {
+    }
+
+    /**
+     * Opens the URL unless the browser is still showing it unchanged since it was loaded.
+     * @param driver active WebDriver
+     * @param url page to open
+     */
+    public static void open(WebDriver driver, String url) {
+        open(driver, url, false);
+    }
+
+    /**
+     * Opens the URL.
+     * @param driver active WebDriver
+     * @param url page to open
+     * @param fresh true to load the page even if the browser is already showing it
+     */
+    public static void open(WebDriver driver, String url, boolean fresh) {
+        if (!fresh && SKIP_REDUNDANT && isCurrent(driver, url)) {
+            skipped.incrementAndGet();
+            logger.debug("Already on {}, load skipped", url);
+            return;
+        }
+        driver.get(url);
+        loaded(driver);
+    }
+
+    /**
+     * Reloads the current page and starts a new page state.
+     * @param driver active WebDriver
+     */
+    public static void refresh(WebDriver driver) {
+        driver.navigate().refresh();
+        loaded(driver);
+    }
+
+    /** @return one-line summary of page loads performed and avoided for the run */
+    public static String summary() {
+        long total = loads.get() + skipped.get();
+        return "NavigationManager[requests=" + total + ", loads=" + loads.get() + ", skipped=" + skipped.get()
+                + ", skipRate=" + (total == 0 ? 0 : skipped.get() * 100 / total) + "%]";
+    }
+
+    private static boolean isCurrent(WebDriver driver, String url) {
+        Long version = loadedVersions.get(driver);
+        if (version == null || version != ElementCache.version(driver)) {
+            return false;
+        }
+        return normalize(driver.getCurrentUrl()).equals(normalize(url));
+    }
+
+    private static void loaded(WebDriver driver) {
+        loads.incrementAndGet();
+        ElementCache.invalidate(driver);
+        loadedVersions.put(driver, ElementCache.version(driver));
+    }
+
+    /** Drops the fragment and a trailing slash so that equivalent URLs compare equal. */
+    private static String normalize(String url) {
+        if (url == null) {
+            return "";
+        }
+        int hash = url.indexOf('#');
+        String normalized = hash >= 0 ? url.substring(0, hash) : url;
+        return normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+}
@@ -0,0 +1,66 @@
+package selenium.automation.framework.pages;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Per-thread registry of page objects.
+ *
+ * <p>{@link #get(WebDriver, Class)} builds a page object once per thread and session and hands
+ * the same instance to every later caller, so tests and flows that move between pages do not
+ * re-run constructors (and their config reads) on each step. Page objects are looked up by
+ * class and must have a public {@code (WebDriver)} constructor. The registry starts over when
+ * the thread asks for a different session, and {@link #clear()} empties it between tests.</p>
+ */
+public final class PageRegistry {
+
+    private static final ThreadLocal<Registry> registries = ThreadLocal.withInitial(Registry::new);
+
+    private PageRegistry() {
+    }
+
+    /**
+     * @param driver session the page object drives
+     * @param type page object class
+     * @return this thread's page object of the class for the session
+     */
+    public static <T> T get(WebDriver driver, Class<T> type) {
+        Registry registry = registries.get();
+        if (registry.driver != driver) {
+            registry.pages.clear();
+            registry.driver = driver;
+        }
+        Object page = registry.pages.get(type);
+        if (page == null) {
+            page = create(driver, type);
+            registry.pages.put(type, page);
+        }
+        return type.cast(page);
+    }
+
+    /** Drops this thread's page objects; called when a test releases its session. */
+    public static void clear() {
+        registries.remove();
+    }
+
+    private static Object create(WebDriver driver, Class<?> type) {
+        try {
+            return type.getConstructor(WebDriver.class).newInstance(driver);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getSimpleName() + " has no public (WebDriver) constructor", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create " + type.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create " + type.getSimpleName(), e);
+        }
+    }
+
+    /** Page objects of one thread, bound to the session they were built for. */
+    private static final class Registry {
+        private final Map<Class<?>, Object> pages = new HashMap<>();
+        private WebDriver driver;
+    }
+}
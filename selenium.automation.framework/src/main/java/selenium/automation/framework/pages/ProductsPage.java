@@ -1,18 +1,16 @@
 package selenium.automation.framework.pages;
 
-import java.time.Duration;
-
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.FluentWait;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.WaitEngine;
 
 /**
  * Page Object representing the Products listing/catalog screen.
@@ -25,7 +23,7 @@ import selenium.automation.framework.core.ConfigManager;
  * Implementation choices:
  *  - Dynamic locator generation for Add to Cart stored in instance field to reuse.
  *  - Scroll into view before clicking to reduce interception by floating banners.
- *  - FluentWait used for modal reliability with custom polling + message.
+ *  - Modal waits use the shared WaitEngine, whose adaptive polling notices the modal within milliseconds.
  */
 @SuppressWarnings("null")
 public class ProductsPage {
@@ -72,13 +70,12 @@ public class ProductsPage {
     } 
 
     /**
-     * Navigates to products page and maximizes window.
+     * Navigates to products page (window size is applied once at launch).
      */
     public void openProductsPage() {
         logger.info("Navigating to ProductsPage: {}", ProductsPageUrl);
-        driver.get(ProductsPageUrl);
-        driver.manage().window().maximize();
-        logger.info("ProductsPage opened and window maximized");
+        NavigationManager.open(driver, ProductsPageUrl);
+        logger.info("ProductsPage opened");
     }
 
     /**
@@ -93,10 +90,10 @@ public class ProductsPage {
         }
         logger.info("Adding product with ID {} to cart", id);
         getAddToCartButton(id);
-        WebElement addToCartButton = driver.findElement(this.addToCartButton);
+        WebElement addToCartButton = ElementCache.find(driver, this.addToCartButton);
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", addToCartButton);
         logger.debug("Scrolled to product ID: {}", id);
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        Wait<WebDriver> wait = WaitEngine.get(driver, WaitEngine.Span.LONG);
         wait.until(ExpectedConditions.elementToBeClickable(addToCartButton)).click();
         logger.info("Product ID {} added to cart successfully", id);
         return false;
@@ -108,9 +105,9 @@ public class ProductsPage {
      */
     public boolean isProductAddedToCart() {
         logger.info("Verifying product added to cart confirmation");
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        Wait<WebDriver> wait = WaitEngine.get(driver);
         wait.until(ExpectedConditions.visibilityOfElementLocated(productAddedConfirmation));
-        boolean isDisplayed = driver.findElement(productAddedConfirmation).isDisplayed();
+        boolean isDisplayed = ElementCache.find(driver, productAddedConfirmation).isDisplayed();
         logger.info("Product added confirmation displayed: {}", isDisplayed);
         return isDisplayed;
     }
@@ -120,13 +117,11 @@ public class ProductsPage {
      */
     public void clickViewCartLink() {
         logger.info("Clicking 'View Cart' link");
-        FluentWait<WebDriver> wait = new WebDriverWait(driver,Duration.ofSeconds(10))
-                .pollingEvery(Duration.ofSeconds(1))
-                .ignoring(Exception.class)
-                .withMessage("Timed out waiting for View Cart link to be clickable");
+        Wait<WebDriver> wait = WaitEngine.get(driver);
         wait.until(ExpectedConditions.visibilityOfElementLocated(cartModal));
         wait.until(ExpectedConditions.elementToBeClickable(linkViewCart));
-        driver.findElement(linkViewCart).click();
+        ElementCache.find(driver, linkViewCart).click();
+        ElementCache.invalidate(driver);
         logger.info("View Cart link clicked successfully");
     }
 }
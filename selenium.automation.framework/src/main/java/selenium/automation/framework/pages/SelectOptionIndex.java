@@ -0,0 +1,190 @@
+package selenium.automation.framework.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.InPageCondition;
+
+/**
+ * Per-session index of dropdown options, read once and used to pick options by value.
+ *
+ * <p>{@link #read(WebDriver, By...)} collects the options (value and visible text) of every
+ * requested dropdown in one script call and caches them for the session. Page objects then
+ * translate the text they were given into an option value from memory, optionally trying
+ * alias candidates in order, and set that value directly (see {@link FormFiller}). Nothing is
+ * probed by catching {@code NoSuchElementException}.</p>
+ *
+ * <p>Dropdowns that are not rendered yet are left out of the result and not cached, so the next
+ * read tries again. Locators must be evaluable in the page (id, name, class name, CSS, XPath or
+ * tag name).</p>
+ */
+public final class SelectOptionIndex {
+    /** Logger for diagnostic output */
+    private static final Logger logger = LoggerFactory.getLogger(SelectOptionIndex.class);
+
+    // Options of each {using, value} select as [value, text] pairs; null for a select not rendered
+    private static final String READ_SCRIPT = InPageCondition.FIND_FUNCTION
+            + "var selects = arguments[0], result = [];"
+            + "for (var s = 0; s < selects.length; s++) {"
+            + "  var select = find(selects[s][0], selects[s][1])[0];"
+            + "  if (!select || !select.options) { result.push(null); continue; }"
+            + "  var options = [];"
+            + "  for (var i = 0; i < select.options.length; i++) {"
+            + "    options.push([select.options[i].value, select.options[i].text.replace(/\\s+/g, ' ').trim()]);"
+            + "  }"
+            + "  result.push(options);"
+            + "}"
+            + "return result;";
+
+    // Option indexes per session, keyed by the locator's description
+    private static final Map<WebDriver, Map<String, Options>> sessions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SelectOptionIndex() {
+    }
+
+    /**
+     * Returns the option index of each dropdown, reading the ones not cached for this session
+     * in a single script call.
+     * @param driver active WebDriver
+     * @param selects dropdown locators
+     * @return index per locator; dropdowns not rendered yet are absent
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<By, Options> read(WebDriver driver, By... selects) {
+        Map<String, Options> cached = sessions.computeIfAbsent(driver, key -> new HashMap<>());
+        Map<By, Options> result = new LinkedHashMap<>();
+        List<By> missing = new ArrayList<>();
+        List<List<String>> arguments = new ArrayList<>();
+        synchronized (cached) {
+            for (By select : selects) {
+                Options options = cached.get(select.toString());
+                if (options != null) {
+                    result.put(select, options);
+                } else {
+                    By.Remotable.Parameters parameters = ((By.Remotable) select).getRemoteParameters();
+                    missing.add(select);
+                    arguments.add(List.of(parameters.using(), String.valueOf(parameters.value())));
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        List<Object> read = (List<Object>) ((JavascriptExecutor) driver).executeScript(READ_SCRIPT, arguments);
+        synchronized (cached) {
+            for (int i = 0; i < missing.size(); i++) {
+                if (read.get(i) instanceof List) {
+                    Options options = new Options((List<List<Object>>) read.get(i));
+                    cached.put(missing.get(i).toString(), options);
+                    result.put(missing.get(i), options);
+                }
+            }
+        }
+        logger.debug("Indexed options of {} dropdown(s) in one call", missing.size());
+        return result;
+    }
+
+    /**
+     * @param driver active WebDriver
+     * @param select dropdown locator
+     * @return option index of the dropdown, or null if it is not rendered
+     */
+    public static Options of(WebDriver driver, By select) {
+        return read(driver, select).get(select);
+    }
+
+    /** Options of one dropdown, in page order. */
+    public static final class Options {
+        private final List<String> values = new ArrayList<>();
+        private final List<String> texts = new ArrayList<>();
+        private final Map<String, String> valueByText = new HashMap<>();
+        private final Map<String, String> valueByNormalizedText = new HashMap<>();
+        private final Map<String, String> textByValue = new HashMap<>();
+
+        private Options(List<List<Object>> options) {
+            for (List<Object> option : options) {
+                String value = String.valueOf(option.get(0));
+                String text = String.valueOf(option.get(1));
+                values.add(value);
+                texts.add(text);
+                valueByText.putIfAbsent(text, value);
+                valueByNormalizedText.putIfAbsent(normalize(text), value);
+                textByValue.putIfAbsent(value, text);
+            }
+        }
+
+        /**
+         * Resolves an option by value, then exact visible text, then case- and
+         * whitespace-insensitive visible text.
+         * @param valueOrText option value or visible text
+         * @return option value, or null if no option matches
+         */
+        public String valueOf(String valueOrText) {
+            if (valueOrText == null) {
+                return null;
+            }
+            if (textByValue.containsKey(valueOrText)) {
+                return valueOrText;
+            }
+            String value = valueByText.get(valueOrText);
+            return value != null ? value : valueByNormalizedText.get(normalize(valueOrText));
+        }
+
+        /**
+         * @param candidates values or visible texts in order of preference (e.g. a name, then its aliases)
+         * @return value of the first candidate that matches an option, or null if none does
+         */
+        public String firstValueOf(List<String> candidates) {
+            for (String candidate : candidates) {
+                String value = valueOf(candidate);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param index option position, 0 being the first (often a placeholder)
+         * @return value of the option at the position, or null if out of range
+         */
+        public String valueAt(int index) {
+            return index >= 0 && index < values.size() ? values.get(index) : null;
+        }
+
+        /**
+         * @param value option value
+         * @return visible text of the option, or null if no option has the value
+         */
+        public String textOf(String value) {
+            return textByValue.get(value);
+        }
+
+        /** @return number of options */
+        public int size() {
+            return values.size();
+        }
+
+        @Override
+        public String toString() {
+            return "Options" + texts;
+        }
+
+        private static String normalize(String text) {
+            return text.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package selenium.automation.framework.pages;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.LatencyStats;
+
+/**
+ * Element proxies that recover from {@link StaleElementReferenceException} in place.
+ *
+ * <p>The page layer ({@link ElementProbe#findAll}, {@link ElementCache#find} and the rows of
+ * {@link CartPage}) hands out proxies that remember the locator, and the position within the
+ * {@code findElements} result, their element was found by. When a call hits a stale element
+ * (the page re-rendered it), the proxy finds the element again at the same position, probing
+ * every 50 ms for up to {@code element.heal.budgetMs} (default 2000 ms), and retries the call
+ * once. A localized re-find takes milliseconds where a whole-test retry by {@code RetryAnalyzer}
+ * costs a new browser and tens of seconds. If the element does not come back within the budget
+ * the original exception is thrown.</p>
+ *
+ * <p>Recoveries are counted for the run ({@link #summary()}) and per thread
+ * ({@link #drainRecoveries()}) for the test report.</p>
+ */
+public final class SelfHealingElement {
+    /** Logger for diagnostic output */
+    private static final Logger logger = LoggerFactory.getLogger(SelfHealingElement.class);
+
+    private static final long BUDGET_MS = Math.max(0, ConfigManager.getIntProperty("element.heal.budgetMs", 2000));
+    private static final long PROBE_INTERVAL_MS = 50;
+
+    private static final LatencyStats healTimes = new LatencyStats();
+    private static final AtomicLong failures = new AtomicLong();
+    private static final ThreadLocal<int[]> threadRecoveries = ThreadLocal.withInitial(() -> new int[1]);
+
+    private SelfHealingElement() {
+    }
+
+    /**
+     * Wraps a located element.
+     * @param driver session the element belongs to
+     * @param locator locator the element was found by
+     * @param index position of the element within the locator's matches
+     * @param element located element
+     * @param onStale run before re-finding, e.g. to drop caches; may be null
+     * @return proxy implementing WebElement, WrapsElement and Locatable
+     */
+    static WebElement wrap(WebDriver driver, By locator, int index, WebElement element, Runnable onStale) {
+        if (Proxy.isProxyClass(element.getClass()) && Proxy.getInvocationHandler(element) instanceof Handler) {
+            return element; // already healing
+        }
+        return (WebElement) Proxy.newProxyInstance(SelfHealingElement.class.getClassLoader(),
+                new Class<?>[] { WebElement.class, WrapsElement.class, Locatable.class },
+                new Handler(driver, locator, index, element, onStale));
+    }
+
+    /** @return stale elements recovered on this thread since the last call, resetting the count */
+    public static int drainRecoveries() {
+        int[] count = threadRecoveries.get();
+        int recovered = count[0];
+        count[0] = 0;
+        return recovered;
+    }
+
+    /** @return one-line summary of in-place recoveries for the run */
+    public static String summary() {
+        return "SelfHealingElement[recovered=" + healTimes.count() + ", failed=" + failures.get()
+                + ", budgetMs=" + BUDGET_MS + ", reFind=" + healTimes + "]";
+    }
+
+    /** Delegates to the current element and re-finds it once when it has gone stale. */
+    private static final class Handler implements InvocationHandler {
+        private final WebDriver driver;
+        private final By locator;
+        private final int index;
+        private final Runnable onStale;
+        private volatile WebElement element;
+
+        Handler(WebDriver driver, By locator, int index, WebElement element, Runnable onStale) {
+            this.driver = driver;
+            this.locator = locator;
+            this.index = index;
+            this.element = element;
+            this.onStale = onStale;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return locator + "[" + index + "] -> " + element;
+                }
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return call(method, args);
+            } catch (StaleElementReferenceException stale) {
+                if (onStale != null) {
+                    onStale.run();
+                }
+                WebElement found = reFind();
+                if (found == null) {
+                    failures.incrementAndGet();
+                    logger.warn("Stale element not recovered within {} ms: {}[{}]", BUDGET_MS, locator, index);
+                    throw stale;
+                }
+                element = found;
+                return call(method, args);
+            }
+        }
+
+        /** @return the element at the same position, or null if it did not return within the budget */
+        private WebElement reFind() {
+            long start = System.nanoTime();
+            long deadline = start + BUDGET_MS * 1_000_000;
+            while (true) {
+                List<WebElement> matches = ElementProbe.findRaw(driver, locator);
+                if (matches.size() > index) {
+                    healTimes.record(System.nanoTime() - start);
+                    threadRecoveries.get()[0]++;
+                    logger.debug("Recovered stale element {}[{}] in {} ms", locator, index,
+                            (System.nanoTime() - start) / 1_000_000);
+                    return matches.get(index);
+                }
+                if (System.nanoTime() >= deadline) {
+                    return null;
+                }
+                try {
+                    Thread.sleep(PROBE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
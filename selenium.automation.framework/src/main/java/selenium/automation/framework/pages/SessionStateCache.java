@@ -0,0 +1,301 @@
+package selenium.automation.framework.pages;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.LatencyStats;
+
+/**
+ * Authenticated browser state cached per credential, restored instead of logging in through the UI.
+ *
+ * <p>After a real login, {@link #capture(WebDriver, String, String)} records the session's
+ * cookies and local/session storage. Later tests hand a fresh session to
+ * {@link #restore(WebDriver, String, String)}, which opens a light page on the site
+ * ({@code session.cache.restoreUrl}, default {@code /robots.txt}) so that cookies can be set,
+ * writes the state back and opens the home page. The restore counts only if the home page then
+ * shows the logout link; otherwise the entry is dropped, the browser state cleared again and the
+ * caller falls back to the UI login. Entries expire after {@code session.cache.ttlMinutes}
+ * (default 30) or when one of their cookies does. {@link LoginPage#loginAs(String, String)}
+ * wraps the whole sequence.</p>
+ *
+ * <p>Entries are keyed by the email plus a hash of the password, so a changed password never
+ * restores an old session. With {@code session.cache.persist=true} the cache is also written to
+ * {@code session.cache.file} (default {@code target/session-cache.json}) and read back in the
+ * next run; the file holds live session cookies and is meant for local runs only. The cache is
+ * off entirely with {@code session.cache.enabled=false}.</p>
+ */
+public final class SessionStateCache {
+    /** Logger for diagnostic output */
+    private static final Logger logger = LoggerFactory.getLogger(SessionStateCache.class);
+
+    private static final boolean ENABLED = ConfigManager.getBooleanProperty("session.cache.enabled", true);
+    private static final long TTL_MS = TimeUnit.MINUTES.toMillis(ConfigManager.getIntProperty("session.cache.ttlMinutes", 30));
+    private static final boolean PERSIST = ConfigManager.getBooleanProperty("session.cache.persist", false);
+    private static final Path FILE = Paths.get(ConfigManager.getProperty("session.cache.file", "target/session-cache.json"));
+    private static final String HOME_URL = ConfigManager.getProperty("HomePageURL", "https://automationexercise.com/");
+    private static final String RESTORE_URL = ConfigManager.getProperty("session.cache.restoreUrl",
+            URI.create(HOME_URL).resolve("/robots.txt").toString());
+
+    /** Shown in the header of every page while a user is logged in */
+    static final By LOGGED_IN_MARKER = By.cssSelector("a[href='/logout']");
+
+    private static final String READ_STORAGE_SCRIPT =
+            "function dump(s) { var o = {}; for (var i = 0; i < s.length; i++) { o[s.key(i)] = s.getItem(s.key(i)); } return o; }"
+            + "return [dump(window.localStorage), dump(window.sessionStorage)];";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var l = arguments[0], s = arguments[1];"
+            + "for (var k in l) { window.localStorage.setItem(k, l[k]); }"
+            + "for (var k in s) { window.sessionStorage.setItem(k, s[k]); }";
+
+    private static final Json JSON = new Json();
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private static final LatencyStats restoreTimes = new LatencyStats();
+    private static final AtomicLong captures = new AtomicLong();
+    private static final AtomicLong rejected = new AtomicLong();
+
+    static {
+        if (ENABLED && PERSIST) {
+            load();
+        }
+    }
+
+    private SessionStateCache() {
+    }
+
+    /**
+     * Records the state of a session that has just logged in.
+     * @param driver logged-in session, on a page of the site
+     * @param email login email
+     * @param password login password
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String email, String password) {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            for (Cookie cookie : driver.manage().getCookies()) {
+                cookies.add(toMap(cookie));
+            }
+            List<Object> storage = (List<Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+            Entry entry = new Entry(System.currentTimeMillis(), cookies,
+                    (Map<String, Object>) storage.get(0), (Map<String, Object>) storage.get(1));
+            entries.put(key(email, password), entry);
+            captures.incrementAndGet();
+            logger.info("Captured session state for {} ({} cookies)", email, cookies.size());
+            if (PERSIST) {
+                save();
+            }
+        } catch (WebDriverException e) {
+            logger.warn("Could not capture session state for {}: {}", email, e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the cached state of the credential into the session and checks that it is logged in.
+     * On success the browser is on the home page, as after a UI login.
+     * @param driver session to restore into, normally fresh from the pool
+     * @param email login email
+     * @param password login password
+     * @return true if the session is now logged in; false if the caller has to log in through the UI
+     */
+    public static boolean restore(WebDriver driver, String email, String password) {
+        if (!ENABLED) {
+            return false;
+        }
+        String key = key(email, password);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (!entry.isUsable(System.currentTimeMillis())) {
+            logger.info("Cached session state for {} has expired", email);
+            discard(key, entry);
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            NavigationManager.open(driver, RESTORE_URL, true);
+            driver.manage().deleteAllCookies();
+            for (Map<String, Object> cookie : entry.cookies) {
+                driver.manage().addCookie(toCookie(cookie));
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, entry.localStorage, entry.sessionStorage);
+            NavigationManager.open(driver, HOME_URL, true);
+            if (ElementProbe.isDisplayed(driver, LOGGED_IN_MARKER)) {
+                restoreTimes.record(System.nanoTime() - start);
+                logger.info("Restored session state for {} in {} ms", email, (System.nanoTime() - start) / 1_000_000);
+                return true;
+            }
+            logger.warn("Restored session state for {} is not logged in; falling back to UI login", email);
+        } catch (WebDriverException e) {
+            logger.warn("Could not restore session state for {}: {}", email, e.getMessage());
+        }
+        discard(key, entry);
+        clear(driver);
+        return false;
+    }
+
+    /** @return one-line summary of captures, logins avoided by restores and restore times */
+    public static String summary() {
+        return "SessionStateCache[captured=" + captures.get() + ", loginsAvoided=" + restoreTimes.count()
+                + ", rejected=" + rejected.get() + ", restore=" + restoreTimes + "]";
+    }
+
+    private static void discard(String key, Entry entry) {
+        rejected.incrementAndGet();
+        if (entries.remove(key, entry) && PERSIST) {
+            save();
+        }
+    }
+
+    /** Leaves the session as it was handed over: no cookies or storage from the failed restore. */
+    private static void clear(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            logger.debug("Could not clear state after failed restore: {}", e.getMessage());
+        }
+        ElementCache.invalidate(driver);
+    }
+
+    private static String key(String email, String password) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(password.getBytes(StandardCharsets.UTF_8));
+            return email + "#" + HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Map<String, Object> toMap(Cookie cookie) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", cookie.getName());
+        map.put("value", cookie.getValue());
+        map.put("domain", cookie.getDomain());
+        map.put("path", cookie.getPath());
+        map.put("secure", cookie.isSecure());
+        map.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getExpiry() != null) {
+            map.put("expiry", cookie.getExpiry().getTime());
+        }
+        if (cookie.getSameSite() != null) {
+            map.put("sameSite", cookie.getSameSite());
+        }
+        return map;
+    }
+
+    private static Cookie toCookie(Map<String, Object> map) {
+        Cookie.Builder builder = new Cookie.Builder((String) map.get("name"), (String) map.get("value"))
+                .domain((String) map.get("domain"))
+                .path((String) map.get("path"))
+                .isSecure(Boolean.TRUE.equals(map.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(map.get("httpOnly")));
+        if (map.get("expiry") instanceof Number) {
+            builder.expiresOn(new Date(((Number) map.get("expiry")).longValue()));
+        }
+        if (map.get("sameSite") != null) {
+            builder.sameSite((String) map.get("sameSite"));
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void load() {
+        if (!Files.isRegularFile(FILE)) {
+            return;
+        }
+        try {
+            Map<String, Object> stored = JSON.toType(Files.readString(FILE), Json.MAP_TYPE);
+            stored.forEach((key, value) -> {
+                Map<String, Object> map = (Map<String, Object>) value;
+                entries.put(key, new Entry(((Number) map.get("capturedAt")).longValue(),
+                        (List<Map<String, Object>>) map.get("cookies"),
+                        (Map<String, Object>) map.get("localStorage"),
+                        (Map<String, Object>) map.get("sessionStorage")));
+            });
+            logger.info("Loaded {} cached session state(s) from {}", entries.size(), FILE);
+        } catch (IOException | JsonException | ClassCastException e) {
+            logger.warn("Ignoring unreadable session cache {}: {}", FILE, e.getMessage());
+        }
+    }
+
+    private static synchronized void save() {
+        Map<String, Object> stored = new HashMap<>();
+        entries.forEach((key, entry) -> {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("capturedAt", entry.capturedAt);
+            map.put("cookies", entry.cookies);
+            map.put("localStorage", entry.localStorage);
+            map.put("sessionStorage", entry.sessionStorage);
+            stored.put(key, map);
+        });
+        try {
+            if (FILE.getParent() != null) {
+                Files.createDirectories(FILE.getParent());
+            }
+            Files.writeString(FILE, JSON.toJson(stored));
+        } catch (IOException e) {
+            logger.warn("Could not write session cache {}: {}", FILE, e.getMessage());
+        }
+    }
+
+    /** Cookies and storage of one logged-in session. */
+    private static final class Entry {
+        private final long capturedAt;
+        private final List<Map<String, Object>> cookies;
+        private final Map<String, Object> localStorage;
+        private final Map<String, Object> sessionStorage;
+
+        Entry(long capturedAt, List<Map<String, Object>> cookies, Map<String, Object> localStorage,
+                Map<String, Object> sessionStorage) {
+            this.capturedAt = capturedAt;
+            this.cookies = List.copyOf(cookies);
+            this.localStorage = Map.copyOf(localStorage);
+            this.sessionStorage = Map.copyOf(sessionStorage);
+        }
+
+        /** @return true if the entry is within the TTL and none of its cookies has expired */
+        boolean isUsable(long now) {
+            if (now - capturedAt > TTL_MS) {
+                return false;
+            }
+            for (Map<String, Object> cookie : cookies) {
+                if (cookie.get("expiry") instanceof Number && ((Number) cookie.get("expiry")).longValue() <= now) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
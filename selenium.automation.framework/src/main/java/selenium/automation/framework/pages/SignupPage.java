@@ -4,14 +4,21 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.support.ui.Wait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import static org.openqa.selenium.support.locators.RelativeLocator.with;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import selenium.automation.framework.core.AccountDetails;
+import selenium.automation.framework.core.AnyOf;
 import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.WaitEngine;
 
 /**
  * Page Object encapsulating the user registration (signup) workflow.
@@ -50,6 +57,11 @@ public class SignupPage {
     private By mobileNumberInput = By.id("mobile_number");
     private By errorElement = By.xpath("//p[contains(text(),'Email Address already exist!')]");
 
+    /** Countries missing from the dropdown, mapped to the options tried instead, in order */
+    private static final Map<String, List<String>> COUNTRY_ALIASES = Map.of(
+            "china", List.of("India"),
+            "united kingdom", List.of("UK", "United States"));
+
 
 
     
@@ -64,19 +76,18 @@ public class SignupPage {
     }
 
     /**
-     * Opens signup page; maximizes window to reduce element overlap risk.
+     * Opens signup page. Window size is fixed once at launch by the active launch profile.
      */
     public void openSignupPage() {
         String signupPageUrl = ConfigManager.getProperty("SignUpPageURL");
         logger.info("Navigating to SignupPage: {}", signupPageUrl);
-        driver.get(signupPageUrl);
-        driver.manage().window().maximize();
-        logger.info("SignupPage opened and window maximized");
+        NavigationManager.open(driver, signupPageUrl);
+        logger.info("SignupPage opened");
     }
 
     // Method to check if name input for signup is displayed
     public boolean isNameInputSignUpDisplayed() {
-        return driver.findElement(nameInputSignUp).isDisplayed();
+        return ElementCache.find(driver, nameInputSignUp).isDisplayed();
     }
 
     /**
@@ -84,13 +95,13 @@ public class SignupPage {
      */
     public void enterNameForSignup(String name) {
         logger.info("Entering name for signup: {}", name);
-        driver.findElement(nameInputSignUp).sendKeys(name);
+        ElementCache.find(driver, nameInputSignUp).sendKeys(name);
         logger.debug("Name entered successfully");
     }
 
     // Method to check if email input for signup is displayed
     public boolean isEmailInputSignUpDisplayed() {
-        return driver.findElement(emailInputSignUp).isDisplayed();
+        return ElementCache.find(driver, emailInputSignUp).isDisplayed();
     }
 
     /**
@@ -98,23 +109,23 @@ public class SignupPage {
      */
     public void enterEmailForSignup(String email) {
         logger.info("Entering email for signup: {}", email);
-        driver.findElement(emailInputSignUp).sendKeys(email);
+        ElementCache.find(driver, emailInputSignUp).sendKeys(email);
         logger.debug("Email entered successfully");
     }
 
     // Method to check if signup button is displayed
     public boolean isSignupButtonDisplayed() {
-        return driver.findElement(signupButton).isDisplayed();
+        return ElementCache.find(driver, signupButton).isDisplayed();
     }
 
     // Method to check if signup button is displayed
     public boolean isSignupButtonVisible() {
-        return driver.findElement(signupButton).isDisplayed();
+        return ElementCache.find(driver, signupButton).isDisplayed();
     }
 
     // Method to check if signup button is enabled
     public boolean isSignupButtonEnabled() {
-        return driver.findElement(signupButton).isEnabled();
+        return ElementCache.find(driver, signupButton).isEnabled();
     }
 
     /**
@@ -122,21 +133,22 @@ public class SignupPage {
      */
     public void clickSignupButton() {
         logger.info("Clicking signup button");
-        driver.findElement(signupButton).click();
+        ElementCache.find(driver, signupButton).click();
+        ElementCache.invalidate(driver);
         logger.info("Signup button clicked successfully");
     }
     
     /** Selects gender option 'Mr.' */
     public void selectMrRadioButton() {
         logger.info("Selecting 'Mr.' radio button");
-        driver.findElement(radioButtonForMr).click();
+        ElementCache.find(driver, radioButtonForMr).click();
         logger.debug("'Mr.' radio button selected");
     }
 
     /** Selects gender option 'Mrs.' */
     public void selectMrsRadioButton() {
         logger.info("Selecting 'Mrs.' radio button");
-        driver.findElement(radioButtonForMrs).click();
+        ElementCache.find(driver, radioButtonForMrs).click();
         logger.debug("'Mrs.' radio button selected");
     }
     /**
@@ -144,107 +156,103 @@ public class SignupPage {
      */
     public void enterPassword(String password) {
         logger.info("Entering password: ****");
-        driver.findElement(passwordInput).sendKeys(password);
+        ElementCache.find(driver, passwordInput).sendKeys(password);
         logger.debug("Password entered successfully");
     }
 
     /**
-     * Selects date of birth components. Day value normalized stripping leading zero.
+     * Selects date of birth components in one call from the session's option index.
+     * Day value normalized stripping leading zero; month chosen by position, year by visible text.
      */
     public void selectDateOfBirth(String year, String month, String day) {
         logger.info("Selecting date of birth: {}-{}-{}", year, month, day);
-        Select daySelect = new Select(driver.findElement(daysDropdown));
-        String[] dayParts = day.split("");
-        if(dayParts[0].equals("0")) {
-            day = dayParts[1];
-        }
-        daySelect.selectByValue(day);
-        logger.debug("Day selected: {}", day);
-        
-        Select monthSelect = new Select(driver.findElement(monthsDropdown));
-        monthSelect.selectByIndex(Integer.parseInt(month));
-        logger.debug("Month selected: {}", month);
-        
-        Select yearSelect = new Select(driver.findElement(yearsDropdown));
-        yearSelect.selectByVisibleText(year);
+        Map<By, String> fields = new LinkedHashMap<>();
+        putDateOfBirth(fields, year, month, day);
+        FormFiller.fill(driver, fields);
         logger.info("Date of birth selected successfully");
     }
     /** Enters first name */
     public void enterFirstName(String firstName) {
         logger.info("Entering first name: {}", firstName);
-        driver.findElement(firstNameInput).sendKeys(firstName);
+        ElementCache.find(driver, firstNameInput).sendKeys(firstName);
     }
     /** Enters last name */
     public void enterLastName(String lastName) {
         logger.info("Entering last name: {}", lastName);
-        driver.findElement(lastNameInput).sendKeys(lastName);
+        ElementCache.find(driver, lastNameInput).sendKeys(lastName);
     }
     /** Enters company name */
     public void enterCompanyName(String company) {
         logger.info("Entering company name: {}", company);
-        driver.findElement(companyInput).sendKeys(company);
+        ElementCache.find(driver, companyInput).sendKeys(company);
     }
     /** Enters address line 1 */
     public void enterAddress1(String address1) {
         logger.info("Entering address line 1: {}", address1);
-        driver.findElement(address1Input).sendKeys(address1);
+        ElementCache.find(driver, address1Input).sendKeys(address1);
     }  
     /** Enters address line 2 */
     public void enterAddress2(String address2) {
         logger.info("Entering address line 2: {}", address2);
-        driver.findElement(address2Input).sendKeys(address2);
+        ElementCache.find(driver, address2Input).sendKeys(address2);
     }   
     /**
-     * Selects country with resilience for unavailable options.
-     * Handles common alternative / fallback scenarios.
+     * Selects country from the session's option index, trying the aliases in order
+     * (e.g. United Kingdom, then UK, then United States) and the first real option last.
      */
     public void selectCountry(String country) {
         if(country == null || country.isEmpty()) {
             logger.warn("Country is null or empty. Skipping country selection.");
             return;
         }
-        // Handle countries that might not be available or have different names
-        if(country.equalsIgnoreCase("China")) {
-            logger.warn("Country 'China' is not available in the dropdown. Using 'India' instead.");
-            country = "India";
-        } else if(country.equalsIgnoreCase("United Kingdom")) {
-            logger.warn("Country 'United Kingdom' might not be available. Trying alternative names.");
-            // Try alternative names for UK
-            try {
-                Select countrySelect = new Select(driver.findElement(countryDropdown));
-                try {
-                    countrySelect.selectByVisibleText("United Kingdom");
-                    logger.debug("Country 'United Kingdom' selected successfully");
-                    return;
-                } catch (org.openqa.selenium.NoSuchElementException e1) {
-                    try {
-                        countrySelect.selectByVisibleText("UK");
-                        logger.debug("Country 'UK' selected successfully");
-                        return;
-                    } catch (org.openqa.selenium.NoSuchElementException e2) {
-                        logger.warn("Neither 'United Kingdom' nor 'UK' found. Using 'United States' instead.");
-                        country = "United States";
-                    }
-                }
-            } catch (Exception e) {
-                logger.error("Error selecting country: {}", e.getMessage());
-                return;
-            }
-        }
-
         logger.info("Selecting country: {}", country);
-        try {
-            Select countrySelect = new Select(driver.findElement(countryDropdown));
-            countrySelect.selectByVisibleText(country);
-            logger.debug("Country '{}' selected successfully", country);
-        } catch (org.openqa.selenium.NoSuchElementException e) {
-            logger.error("Country '{}' not found in dropdown. Available options might be different.", country);
-            // Select first available country as fallback
-            Select countrySelect = new Select(driver.findElement(countryDropdown));
-            countrySelect.selectByIndex(1); // Select first option after default
-            logger.warn("Selected first available country as fallback");
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(countryDropdown, countryValue(country));
+        FormFiller.fill(driver, fields);
+    }
+    /**
+     * Adds the date of birth dropdowns to a batch: day by value without leading zero, month by
+     * position, year by visible text. Falls back to the raw strings if the form is not rendered.
+     */
+    private void putDateOfBirth(Map<By, String> fields, String year, String month, String day) {
+        Map<By, SelectOptionIndex.Options> options =
+                SelectOptionIndex.read(driver, daysDropdown, monthsDropdown, yearsDropdown);
+        String dayValue = String.valueOf(Integer.parseInt(day));
+        String monthValue = String.valueOf(Integer.parseInt(month));
+        SelectOptionIndex.Options days = options.get(daysDropdown);
+        SelectOptionIndex.Options months = options.get(monthsDropdown);
+        SelectOptionIndex.Options years = options.get(yearsDropdown);
+        fields.put(daysDropdown, days == null || days.valueOf(dayValue) == null ? dayValue : days.valueOf(dayValue));
+        fields.put(monthsDropdown, months == null || months.valueAt(Integer.parseInt(month)) == null
+                ? monthValue : months.valueAt(Integer.parseInt(month)));
+        fields.put(yearsDropdown, years == null || years.valueOf(year) == null ? year : years.valueOf(year));
+    }
+
+    /**
+     * Resolves a country name to its dropdown value: the name itself, then its aliases, then the
+     * first option after the placeholder.
+     * @return option value, or the name itself if the dropdown is not rendered yet
+     */
+    private String countryValue(String country) {
+        SelectOptionIndex.Options countries = SelectOptionIndex.of(driver, countryDropdown);
+        if (countries == null) {
+            return country;
         }
-    }   
+        List<String> candidates = new ArrayList<>();
+        candidates.add(country);
+        candidates.addAll(COUNTRY_ALIASES.getOrDefault(country.toLowerCase(Locale.ROOT), List.of()));
+        String value = countries.firstValueOf(candidates);
+        if (value == null) {
+            value = countries.valueAt(1);
+            logger.warn("Country '{}' not found in dropdown. Selected first available country '{}' as fallback",
+                    country, countries.textOf(value));
+        } else if (!country.equalsIgnoreCase(countries.textOf(value))) {
+            logger.warn("Country '{}' is not available in the dropdown. Using '{}' instead.",
+                    country, countries.textOf(value));
+        }
+        return value;
+    }
+
     /** Enters state, normalizing unsupported region values */
     public void enterState(String state) {
         if(state == null) {
@@ -255,26 +263,66 @@ public class SignupPage {
             state = "Delhi";
         }
         logger.info("Entering state: {}", state);
-        driver.findElement(stateInput).sendKeys(state);
+        ElementCache.find(driver, stateInput).sendKeys(state);
     }   
     /** Enters city */
     public void enterCity(String city) {
         logger.info("Entering city: {}", city);
-        driver.findElement(cityInput).sendKeys(city);
+        ElementCache.find(driver, cityInput).sendKeys(city);
     }
 
     /** Enters postal/zip code */
     public void enterZipcode(String zipcode) {
         logger.info("Entering zipcode: {}", zipcode);
-        driver.findElement(zipcodeInput).sendKeys(zipcode);
+        ElementCache.find(driver, zipcodeInput).sendKeys(zipcode);
     }   
     /** Enters mobile number and logs completion of form entry */
     public void enterMobileNumber(String mobileNumber) {
         logger.info("Entering mobile number: {}", mobileNumber);
-        driver.findElement(mobileNumberInput).sendKeys(mobileNumber);
+        ElementCache.find(driver, mobileNumberInput).sendKeys(mobileNumber);
         logger.info("All signup form details entered successfully");
     }
        
+    /**
+     * Fills the whole account information form in one script call (see {@link FormFiller}).
+     * Applies the same normalisation as the single-field methods: date of birth and country
+     * resolved through the session's option index (country aliases included), Beijing entered
+     * as Delhi. The four dropdowns are indexed together in one call the first time.
+     * @param details account and address details
+     */
+    public void fillAccountDetails(AccountDetails details) {
+        logger.info("Filling account information form: {}", details);
+        SelectOptionIndex.read(driver, countryDropdown, daysDropdown, monthsDropdown, yearsDropdown);
+        Map<By, String> fields = new LinkedHashMap<>();
+        if ("Mr".equalsIgnoreCase(details.title())) {
+            fields.put(radioButtonForMr, "true");
+        } else if ("Mrs".equalsIgnoreCase(details.title())) {
+            fields.put(radioButtonForMrs, "true");
+        } else {
+            logger.warn("Invalid title provided: {}", details.title());
+        }
+        fields.put(passwordInput, details.password());
+        if (details.dateOfBirth() != null) {
+            String[] dobParts = details.dateOfBirth().split("-");
+            putDateOfBirth(fields, dobParts[0], dobParts[1], dobParts[2]);
+        }
+        fields.put(firstNameInput, details.firstName());
+        fields.put(lastNameInput, details.lastName());
+        fields.put(companyInput, details.company());
+        fields.put(address1Input, details.address1());
+        fields.put(address2Input, details.address2());
+        if (details.country() != null && !details.country().isEmpty()) {
+            fields.put(countryDropdown, countryValue(details.country()));
+        }
+        String state = details.state();
+        fields.put(stateInput, "Beijing".equalsIgnoreCase(state) ? "Delhi" : state);
+        fields.put(cityInput, details.city());
+        fields.put(zipcodeInput, details.zipcode());
+        fields.put(mobileNumberInput, details.mobileNumber());
+        FormFiller.fill(driver, fields);
+        logger.info("All signup form details entered successfully");
+    }
+
     /**
      * Attempts to click create account button beneath mobile field.
      * Strategy: normal click, fallback JS click if intercepted.
@@ -288,7 +336,7 @@ public class SignupPage {
             ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", createAccountButton);
             
             // Wait for button to be clickable after scroll
-            WebDriverWait shortWait = new WebDriverWait(driver, Duration.ofMillis(500));
+            Wait<WebDriver> shortWait = WaitEngine.get(driver, WaitEngine.Span.BRIEF);
             try {
                 shortWait.until(ExpectedConditions.elementToBeClickable(createAccountButton));
             } catch (Exception e) {
@@ -306,43 +354,53 @@ public class SignupPage {
                 ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", createAccountButton);
                 logger.info("Create account button clicked via JavaScript");
             }
+            ElementCache.invalidate(driver);
         } catch (Exception e) {
             logger.error("Error clicking create account button: {}", e.getMessage());
             throw e;
         }
     }
+    /**
+     * Checks for the "email already exists" error without waiting when it is absent.
+     * @return true if the error paragraph is displayed
+     */
     public boolean isErrorTextDisplayed() {
-        return !driver.findElements(errorElement).isEmpty() && driver.findElement(errorElement).isDisplayed();
+        return ElementProbe.isDisplayed(driver, errorElement);
     }
 
     /**
      * Determines if current URL represents signup/login stage.
      */
     public boolean isSignupPageDisplayed() {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        Wait<WebDriver> wait = WaitEngine.get(driver);
         wait.until(ExpectedConditions.or(ExpectedConditions.urlContains("/signup"), ExpectedConditions.urlContains("/login")));
         return driver.getCurrentUrl().contains("/signup") || driver.getCurrentUrl().contains("/login");
     }
 
     /**
-     * Returns browser native validationMessage for email field if still on signup page.
-     * Empty string indicates either navigation away (success) or absence of validation.
+     * Waits for the outcome of the signup click and returns the browser native validationMessage
+     * of the email field if submission was blocked. The possible outcomes are raced in one wait;
+     * empty string indicates the account form, a duplicate-email error or navigation away.
      */
     public String verifyValidationMessage() {
-        try {
-            // Check if we're still on the signup/login page
-            if (driver.getCurrentUrl().contains("/login") || driver.getCurrentUrl().contains("/signup")) {
-                WebElement inputElement = driver.findElement(emailInputSignUp);
-                String validationMessage = inputElement.getAttribute("validationMessage");
-                return validationMessage != null ? validationMessage : "";
-            } else {
-                // Page has navigated away, meaning signup was successful
-                return "";
-            }
-        } catch (org.openqa.selenium.NoSuchElementException e) {
-            // Element not found means page has navigated, signup was successful
-            logger.debug("Email input element not found - signup successful, page navigated");
+        AnyOf<String> outcome = AnyOf.<String>of("validation message", d -> {
+                    List<WebElement> inputs = ElementProbe.findAll(d, emailInputSignUp);
+                    String message = inputs.isEmpty() ? null : inputs.get(0).getAttribute("validationMessage");
+                    return message == null || message.isEmpty() ? null : message;
+                })
+                .or("account form", d -> ElementProbe.isPresent(d, passwordInput) ? "" : null)
+                .or("email exists", d -> ElementProbe.isDisplayed(d, errorElement) ? "" : null)
+                .or("navigated", d -> {
+                    String currentUrl = d.getCurrentUrl();
+                    return currentUrl.contains("/login") || currentUrl.contains("/signup") ? null : "";
+                });
+        AnyOf.Match<String> match = WaitEngine.untilAny(driver, WaitEngine.Span.SHORT, outcome);
+        if (match == null) {
+            logger.warn("No signup outcome within {} ms; assuming no validation message",
+                    WaitEngine.timeout(WaitEngine.Span.SHORT).toMillis());
             return "";
         }
+        logger.debug("Signup outcome: {}", match.name());
+        return match.value();
     }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package selenium.automation.framework.listeners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import selenium.automation.framework.core.AccountPool;
+import selenium.automation.framework.core.BrowserBudget;
+import selenium.automation.framework.core.DriverWarmer;
+import selenium.automation.framework.tests.ApiBaseTest;
+
+/**
+ * Suite-level scheduler that replaces fixed per-block concurrency with one global browser budget.
+ *
+ * <p>testng.xml declares concurrency in islands (suite thread-count for {@code <test>} blocks,
+ * a thread-count inside each block), so one block can sit idle while another has a backlog and
+ * the total number of browsers is unbounded. Before the suite starts this listener:</p>
+ * <ul>
+ *   <li>lets every {@code <test>} block run at the same time (suite thread-count = number of blocks)</li>
+ *   <li>widens each parallel block without {@code preserve-order="true"} to the budget, so it can
+ *       absorb slots other blocks are not using</li>
+ *   <li>leaves blocks that declare {@code preserve-order="true"} exactly as written</li>
+ * </ul>
+ * The real cap is {@link BrowserBudget}: worker threads beyond it queue (fairly, across all
+ * blocks) for the next free browser, so every slot stays busy until the suite drains.
+ *
+ * <p>When the suite starts it pre-launches browsers for the planned parallelism (see
+ * {@link DriverWarmer}) and pre-fills the {@link AccountPool}, so first tests do not wait on
+ * startup. This runs here rather than in a {@code @BeforeSuite} method because TestNG does not
+ * inject the suite into suite-level configuration methods.</p>
+ *
+ * <p>Registered in testng.xml; alter-suite listeners must be declared there or on the command line.</p>
+ */
+public class SuiteScheduler implements IAlterSuiteListener, ISuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int budget = BrowserBudget.getLimit();
+        for (XmlSuite suite : suites) {
+            List<XmlTest> tests = suite.getTests();
+            if (tests.isEmpty()) {
+                continue;
+            }
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(tests.size());
+
+            for (XmlTest test : tests) {
+                boolean preserveOrder = Boolean.TRUE.equals(test.getPreserveOrder());
+                // A block without its own parallel attribute inherits the suite's "tests" mode, which runs its methods serially
+                XmlSuite.ParallelMode mode = test.getParallel();
+                boolean parallel = mode != null && mode.isParallel() && mode != XmlSuite.ParallelMode.TESTS;
+                if (preserveOrder || !parallel) {
+                    System.out.println("Scheduler: keeping '" + test.getName() + "' as declared"
+                            + " [parallel=" + test.getParallel() + ", thread-count=" + test.getThreadCount() + "]");
+                    continue;
+                }
+                test.setThreadCount(budget);
+                System.out.println("Scheduler: '" + test.getName() + "' may use up to " + budget + " browsers");
+            }
+            System.out.println("Scheduler: " + tests.size() + " blocks share a budget of " + budget + " live browsers");
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        XmlSuite xmlSuite = suite.getXmlSuite();
+        String browser = System.getProperty("browser", xmlSuite.getParameter("browser"));
+        DriverWarmer.start(browser != null ? browser : "chrome", plannedConcurrency(xmlSuite));
+        if (AccountPool.isEnabled()) {
+            try {
+                AccountPool.prefill();
+            } catch (RuntimeException e) {
+                System.out.println("Account pool prefill failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Peak number of browsers the suite can hold at once: the busiest {@code <test>} blocks that
+     * may run together (suite thread-count when parallel="tests") each contribute their own
+     * thread-count when they run methods/classes in parallel, otherwise one browser.
+     */
+    private static int plannedConcurrency(XmlSuite suite) {
+        List<Integer> perTest = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            if (!usesBrowser(test)) {
+                continue;
+            }
+            XmlSuite.ParallelMode mode = test.getParallel();
+            boolean parallel = mode != null && mode.isParallel() && mode != XmlSuite.ParallelMode.TESTS;
+            perTest.add(parallel ? test.getThreadCount() : 1);
+        }
+        perTest.sort(Collections.reverseOrder());
+        int concurrentTests = suite.getParallel() == XmlSuite.ParallelMode.TESTS ? suite.getThreadCount() : 1;
+        int planned = 0;
+        for (int i = 0; i < Math.min(concurrentTests, perTest.size()); i++) {
+            planned += perTest.get(i);
+        }
+        return planned;
+    }
+
+    /** @return false if every class of the block extends {@link ApiBaseTest} */
+    private static boolean usesBrowser(XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            Class<?> type = xmlClass.getSupportClass();
+            if (type == null || !ApiBaseTest.class.isAssignableFrom(type)) {
+                return true;
+            }
+        }
+        return test.getXmlClasses().isEmpty();
+    }
+}
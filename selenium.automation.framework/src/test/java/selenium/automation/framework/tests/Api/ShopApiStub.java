@@ -0,0 +1,117 @@
+package selenium.automation.framework.tests.Api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-memory stand-in for the shop's account API, bound to a free local port.
+ * Mirrors the real endpoints and response bodies (HTTP 200, real status in responseCode)
+ * and records the client connections it served so tests can check they are reused.
+ */
+public class ShopApiStub implements AutoCloseable {
+
+    private final HttpServer server;
+    // email -> password of registered accounts
+    private final Map<String, String> accounts = new ConcurrentHashMap<>();
+    // Remote address of every connection that sent a request
+    private final Set<String> connections = ConcurrentHashMap.newKeySet();
+
+    public ShopApiStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/createAccount", exchange -> handle(exchange, "POST", this::createAccount));
+        server.createContext("/api/verifyLogin", exchange -> handle(exchange, "POST", this::verifyLogin));
+        server.createContext("/api/deleteAccount", exchange -> handle(exchange, "DELETE", this::deleteAccount));
+        server.start();
+    }
+
+    /** @return API root served by the stub */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/";
+    }
+
+    /** @return number of distinct client connections that sent requests */
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    /** @return true if an account with the email is registered */
+    public boolean hasAccount(String email) {
+        return accounts.containsKey(email);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private String createAccount(Map<String, String> form) {
+        String email = form.get("email");
+        if (email == null || form.get("password") == null || form.get("name") == null) {
+            return body(400, "Bad request, email or password parameter is missing in POST request.");
+        }
+        if (accounts.putIfAbsent(email, form.get("password")) != null) {
+            return body(400, "Email already exists!");
+        }
+        return body(201, "User created!");
+    }
+
+    private String verifyLogin(Map<String, String> form) {
+        String password = accounts.get(String.valueOf(form.get("email")));
+        return password != null && password.equals(form.get("password"))
+                ? body(200, "User exists!") : body(404, "User not found!");
+    }
+
+    private String deleteAccount(Map<String, String> form) {
+        String email = String.valueOf(form.get("email"));
+        return accounts.remove(email, form.get("password"))
+                ? body(200, "Account deleted!") : body(404, "Account not found!");
+    }
+
+    private void handle(HttpExchange exchange, String method, Endpoint endpoint) throws IOException {
+        connections.add(exchange.getRemoteAddress().toString());
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String response = method.equals(exchange.getRequestMethod())
+                ? endpoint.call(parse(body))
+                : body(405, "This request method is not supported.");
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parse(String form) {
+        Map<String, String> fields = new HashMap<>();
+        for (String pair : form.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                fields.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return fields;
+    }
+
+    private static String body(int responseCode, String message) {
+        return "{\"responseCode\": " + responseCode + ", \"message\": \"" + message + "\"}";
+    }
+
+    private interface Endpoint {
+        String call(Map<String, String> form);
+    }
+}
@@ -0,0 +1,64 @@
+package selenium.automation.framework.tests.Api;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import selenium.automation.framework.core.AccountDetails;
+import selenium.automation.framework.core.ShopApiClient;
+import selenium.automation.framework.tests.ApiBaseTest;
+
+/**
+ * API-01: Account setup/teardown over HTTP against a local stub of the shop API.
+ * Flow: Create -> Duplicate create -> Verify login (right and wrong password) -> Delete -> Delete again -> Ensure.
+ */
+public class TestCase01 extends ApiBaseTest {
+
+    @Test
+    public void TC01() throws Exception {
+        createTest("API-01");
+        getTest().info("========== Starting Test Case: API-01 - Account API Setup and Teardown ==========");
+        getTest().info("Test Objective: Verify accounts can be created, verified and deleted without the UI");
+
+        AccountDetails details = new AccountDetails("Mr", "Passw0rd!", "1990-05-15", "John", "Doe", "Acme Corp",
+                "123 Main St", "Apt 4B", "United States", "California", "Los Angeles", "90001", "+1-310-555-0101");
+
+        try (ShopApiStub stub = new ShopApiStub()) {
+            ShopApiClient api = new ShopApiClient(stub.baseUrl());
+            getTest().info("Stub API started at " + stub.baseUrl());
+
+            // Step 1: Register a new account
+            getTest().info("Step 1: Creating account");
+            ShopApiClient.Response created = api.createAccount("John Doe", "api.user@example.com", details);
+            Assert.assertTrue(created.isCreated(), "Account should be created: " + created);
+            getTest().info("Create response: " + created);
+
+            // Step 2: Registering the same email again is rejected
+            getTest().info("Step 2: Creating duplicate account");
+            ShopApiClient.Response duplicate = api.createAccount("John Doe", "api.user@example.com", details);
+            Assert.assertEquals(duplicate.responseCode(), 400, "Duplicate email should be rejected: " + duplicate);
+
+            // Step 3: Credentials check
+            getTest().info("Step 3: Verifying login");
+            Assert.assertTrue(api.verifyLogin("api.user@example.com", "Passw0rd!"), "Valid credentials should verify");
+            Assert.assertFalse(api.verifyLogin("api.user@example.com", "WrongPass"), "Wrong password should not verify");
+
+            // Step 4: Teardown deletes once
+            getTest().info("Step 4: Deleting account");
+            Assert.assertTrue(api.deleteAccount("api.user@example.com", "Passw0rd!"), "Account should be deleted");
+            Assert.assertFalse(stub.hasAccount("api.user@example.com"), "Stub should no longer hold the account");
+            Assert.assertFalse(api.deleteAccount("api.user@example.com", "Passw0rd!"), "Second delete should find nothing");
+
+            // Step 5: ensureAccount creates only when missing
+            getTest().info("Step 5: Ensuring account exists");
+            Assert.assertTrue(api.ensureAccount("John Doe", "api.user@example.com", details), "Missing account should be created");
+            Assert.assertFalse(api.ensureAccount("John Doe", "api.user@example.com", details), "Existing account should be kept");
+
+            // Step 6: Sequential calls share one pooled connection
+            getTest().info("Step 6: Checking connection reuse");
+            getTest().info("Connections used for all calls: " + stub.connectionCount());
+            Assert.assertEquals(stub.connectionCount(), 1, "Sequential calls should reuse one connection");
+            getTest().pass("✓ Account API setup and teardown verified");
+        }
+        getTest().info("========== Test Case API-01 Completed ==========");
+    }
+}
@@ -0,0 +1,75 @@
+package selenium.automation.framework.tests.Api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import selenium.automation.framework.core.AccountCleanupEngine;
+import selenium.automation.framework.core.AccountDetails;
+import selenium.automation.framework.core.AccountSource;
+import selenium.automation.framework.core.ShopApiClient;
+import selenium.automation.framework.core.TestAccount;
+import selenium.automation.framework.tests.ApiBaseTest;
+
+/**
+ * API-02: Parallel account cleanup against a local stub of the shop API.
+ * Flow: Create accounts -> Clean up from overlapping sources (one flaky delete, one unknown account) -> Verify outcomes.
+ */
+public class TestCase02 extends ApiBaseTest {
+
+    private static final int ACCOUNTS = 200;
+
+    @Test
+    public void TC02() throws Exception {
+        createTest("API-02");
+        getTest().info("========== Starting Test Case: API-02 - Parallel Account Cleanup ==========");
+        getTest().info("Test Objective: Verify accounts from several sources are deleted once each, in parallel, with retries");
+
+        AccountDetails details = new AccountDetails("Mrs", "Passw0rd!", "1995-12-01", "Priya", "Sharma", "",
+                "45 MG Road", "", "India", "Maharashtra", "Mumbai", "400001", "+91-9876543210");
+
+        try (ShopApiStub stub = new ShopApiStub()) {
+            ShopApiClient api = new ShopApiClient(stub.baseUrl());
+
+            // Step 1: Provision accounts
+            getTest().info("Step 1: Creating " + ACCOUNTS + " accounts via stub API");
+            Object[][] rows = new Object[ACCOUNTS][];
+            for (int i = 0; i < ACCOUNTS; i++) {
+                String email = "cleanup" + i + "@example.com";
+                Assert.assertTrue(api.createAccount("User " + i, email, details).isCreated(), "Account should be created: " + email);
+                rows[i] = new Object[] { "REG-" + i, email, "Passw0rd!" };
+            }
+
+            // Step 2: Sources overlap (first half listed twice) and include an unknown account
+            getTest().info("Step 2: Running cleanup engine");
+            List<TestAccount> overlap = new ArrayList<>(AccountSource.of(rows, 1, 2).accounts().subList(0, ACCOUNTS / 2));
+            overlap.add(new TestAccount("nobody@example.com", "Passw0rd!"));
+            // First delete of one account fails, to exercise the retry
+            Set<String> failedOnce = ConcurrentHashMap.newKeySet();
+            AccountCleanupEngine engine = new AccountCleanupEngine(account -> {
+                if (account.email().equals("cleanup7@example.com") && failedOnce.add(account.email())) {
+                    throw new IllegalStateException("simulated connection reset");
+                }
+                return api.deleteAccount(account.email(), account.password());
+            }, 8);
+            AccountCleanupEngine.Report report = engine.run(AccountSource.of(rows, 1, 2), () -> overlap);
+            getTest().info("Cleanup report: " + report);
+
+            // Step 3: Verify outcomes
+            getTest().info("Step 3: Verifying outcomes");
+            Assert.assertEquals(report.getOutcomes().size(), ACCOUNTS + 1, "Duplicates should be dropped");
+            Assert.assertEquals(report.count(AccountCleanupEngine.Outcome.DELETED), ACCOUNTS, "Every account should be deleted");
+            Assert.assertEquals(report.count(AccountCleanupEngine.Outcome.NOT_FOUND), 1, "Unknown account should be not found");
+            Assert.assertTrue(report.getFailed().isEmpty(), "Retried account should not fail: " + report.getFailed());
+            for (int i = 0; i < ACCOUNTS; i++) {
+                Assert.assertFalse(stub.hasAccount("cleanup" + i + "@example.com"), "Account should be gone: cleanup" + i);
+            }
+            getTest().pass("✓ " + ACCOUNTS + " accounts cleaned up in " + report.getElapsedMillis() + " ms");
+        }
+        getTest().info("========== Test Case API-02 Completed ==========");
+    }
+}
@@ -0,0 +1,14 @@
+package selenium.automation.framework.tests;
+
+/**
+ * Base class for tests that talk to the shop over HTTP only.
+ * Keeps the reporting and account lifecycle of BaseTest but leases no browser, takes no
+ * screenshots, and its blocks are left out of the browser pre-warm count.
+ */
+public abstract class ApiBaseTest extends BaseTest {
+
+    @Override
+    protected boolean usesBrowser() {
+        return false;
+    }
+}
@@ -2,6 +2,7 @@ package selenium.automation.framework.tests;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Map;
 
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
@@ -16,7 +17,24 @@ import org.testng.annotations.Parameters;
 
 import com.aventstack.extentreports.ExtentTest;
 
+import selenium.automation.framework.core.AccountCleanupEngine;
+import selenium.automation.framework.core.AccountPool;
+import selenium.automation.framework.core.AccountSource;
+import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.DriverPool;
+import selenium.automation.framework.core.DriverProcessTracker;
+import selenium.automation.framework.core.DriverWarmer;
+import selenium.automation.framework.core.NetworkBlocker;
+import selenium.automation.framework.core.ShopApiClient;
+import selenium.automation.framework.core.TestAccount;
+import selenium.automation.framework.core.WaitEngine;
 import selenium.automation.framework.core.WebdriverUtil;
+import selenium.automation.framework.pages.ElementCache;
+import selenium.automation.framework.pages.NavigationManager;
+import selenium.automation.framework.pages.PageRegistry;
+import selenium.automation.framework.pages.SelfHealingElement;
+import selenium.automation.framework.pages.SessionStateCache;
+import selenium.automation.framework.utils.ExcelExtractorUtil;
 import selenium.automation.framework.utils.ScreenShotUtil;
 import selenium.automation.framework.utils.SetupExtentReportUtil;
 
@@ -25,31 +43,47 @@ import selenium.automation.framework.utils.SetupExtentReportUtil;
  * Provides lifecycle hooks for driver initialization, screenshot capture, and Extent reporting.
  * Design choices:
  *  - ThreadLocal driver obtained via WebdriverUtil for parallel safety.
+ *  - Sessions are leased from a warm pool and returned (reset) after each test instead of closed.
+ *  - Browsers are pre-launched for the suite's planned parallelism (see SuiteScheduler).
  *  - Screenshots captured on both PASS and FAIL to aid visual auditing.
  *  - Uses @Parameters browser with system property override (-Dbrowser) for CI flexibility.
+ *  - Page objects are shared per thread through page(Class) and dropped after each test.
+ *  - Tests that never touch a browser extend ApiBaseTest: no session is leased for them.
  */
 @SuppressWarnings("null")
 public class BaseTest extends SetupExtentReportUtil {
     // No WebDriver field; access via WebdriverUtil.getDriver() for thread isolation
 
+    // Pool account leased by the running test, returned in afterMethod
+    private static final ThreadLocal<TestAccount> leasedAccount = new ThreadLocal<>();
+
     @BeforeSuite
     public void beforeSuite() {
-        // Suite-wide setup: initialize reporting
+        // Suite-wide setup: initialize reporting (browsers and accounts are warmed by SuiteScheduler)
         System.out.println("Starting Test Suite Execution");
         setupReport();
-    
-
     }
 
+    /**
+     * @return false for tests that never touch a browser; no session is leased for them and
+     *         no screenshot is taken
+     */
+    protected boolean usesBrowser() {
+        return true;
+    }
 
     @BeforeMethod
-    @Parameters("browser")
-    public void beforeMethod(Method method, @Optional("chrome") String browser) {
+    @Parameters({"browser", "multiplexTabs"})
+    public void beforeMethod(Method method, @Optional("chrome") String browser, @Optional("false") String multiplexTabs) {
+        if (!usesBrowser()) {
+            return;
+        }
         // Per-test setup: create driver, apply implicit wait baseline
         try {
             // Check system property first (for Maven -Dbrowser=xxx)
             String browserToUse = System.getProperty("browser", browser);
-            WebdriverUtil.initializeDriver(browserToUse);
+            // multiplexTabs=true runs independent tests as tabs of a shared browser
+            WebdriverUtil.initializeDriver(browserToUse, Boolean.parseBoolean(multiplexTabs));
             System.out.println("Browser initialized: " + browserToUse);
             WebdriverUtil.getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
             // Set waits after driver is created
@@ -58,6 +92,44 @@ public class BaseTest extends SetupExtentReportUtil {
         }   
     }
 
+    /**
+     * Returns this thread's page object of the given class for the current driver, building it
+     * on first use (see {@link PageRegistry}).
+     * @param type page object class with a (WebDriver) constructor
+     * @return shared page object
+     */
+    protected <T> T page(Class<T> type) {
+        return PageRegistry.get(WebdriverUtil.getDriver(), type);
+    }
+
+    /**
+     * Returns the account this test should log in with: a dedicated account leased from the
+     * {@link AccountPool} (its cart is emptied and the account returned after the test), or the
+     * given suite credentials when the pool is disabled or cannot supply one.
+     * A dedicated account keeps parallel tests from sharing one server-side cart, which is what
+     * lets the Checkout block run its methods in parallel and out of declared order.
+     * @param email suite credential email (e.g. from @Parameters)
+     * @param password suite credential password
+     * @return account for this test
+     */
+    protected TestAccount account(String email, String password) {
+        TestAccount account = leasedAccount.get();
+        if (account != null) {
+            return account;
+        }
+        if (AccountPool.isEnabled()) {
+            try {
+                account = AccountPool.lease();
+                leasedAccount.set(account);
+                getTest().info("Leased pool account: " + account);
+                return account;
+            } catch (RuntimeException e) {
+                getTest().warning("Account pool unavailable, using suite credentials: " + e.getMessage());
+            }
+        }
+        return new TestAccount(email, password);
+    }
+
     @BeforeClass
     public void beforeClass() {
         // Placeholder for class-level setup (e.g., shared data fixtures)
@@ -67,21 +139,10 @@ public class BaseTest extends SetupExtentReportUtil {
 
     @AfterClass
     public void afterClass() {
-        // Attempt graceful driver close (not quit) to allow @AfterMethod cleanup patterns
+        // Return any session still bound to this thread (e.g. a test that skipped @AfterMethod)
         System.out.println("");
         try {
-            WebDriver driver = WebdriverUtil.getDriver();
-            if (driver != null) {
-                // Check if session is still valid before trying to close
-                try {
-                    driver.getTitle(); // This will throw exception if session is invalid
-                    driver.close();
-                } catch (org.openqa.selenium.NoSuchSessionException e) {
-                    System.out.println("Browser session already closed");
-                } catch (Exception e) {
-                    System.out.println("Error checking browser session: " + e.getMessage());
-                }
-            }
+            WebdriverUtil.releaseDriver();
         } catch (Exception e) {
             System.out.println("Error in afterClass cleanup: " + e.getMessage());
         }
@@ -92,51 +153,95 @@ public class BaseTest extends SetupExtentReportUtil {
         ExtentTest test = getTest();
         WebDriver driver = WebdriverUtil.getDriver();
 
+        // Tests without a browser (ApiBaseTest) have nothing to capture
         if (result.getStatus() == ITestResult.FAILURE) {
             test.fail(result.getThrowable());
-            try {
-                // Capture screenshot and get filename
-                String fileName = ScreenShotUtil.takeScreenshot(driver, method.getName());
+            if (driver != null) {
+                try {
+                    // Capture screenshot and get filename
+                    String fileName = ScreenShotUtil.takeScreenshot(driver, method.getName());
 
-                // Create relative path from report location to screenshot
-                // Report is in: test-output/reports/
-                // Screenshot is in: test-output/screenshots/
-                String relativePath = "../screenshots/" + fileName;
+                    // Create relative path from report location to screenshot
+                    // Report is in: test-output/reports/
+                    // Screenshot is in: test-output/screenshots/
+                    String relativePath = "../screenshots/" + fileName;
 
-                test.addScreenCaptureFromPath(relativePath);
-            } catch (Exception e) {
-                test.warning("Failed to attach screenshot: " + e.getMessage());
+                    test.addScreenCaptureFromPath(relativePath);
+                } catch (Exception e) {
+                    test.warning("Failed to attach screenshot: " + e.getMessage());
+                }
             }
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             test.pass("Test passed");
-            try {
-                // Capture screenshot and get filename
-                String fileName = ScreenShotUtil.takeScreenshot(driver, method.getName());
+            if (driver != null) {
+                try {
+                    // Capture screenshot and get filename
+                    String fileName = ScreenShotUtil.takeScreenshot(driver, method.getName());
 
-                // Create relative path from report location to screenshot
-                // Report is in: test-output/reports/
-                // Screenshot is in: test-output/screenshots/
-                String relativePath = "../screenshots/" + fileName;
+                    // Create relative path from report location to screenshot
+                    // Report is in: test-output/reports/
+                    // Screenshot is in: test-output/screenshots/
+                    String relativePath = "../screenshots/" + fileName;
 
-                test.addScreenCaptureFromPath(relativePath);
-            } catch (Exception e) {
-                test.warning("Failed to attach screenshot: " + e.getMessage());
+                    test.addScreenCaptureFromPath(relativePath);
+                } catch (Exception e) {
+                    test.warning("Failed to attach screenshot: " + e.getMessage());
+                }
             }
         } else {
             test.skip("Test skipped");
         }
-        // Close window after each test to free resources (quit handled if needed elsewhere)
+        Map<String, Integer> blockedRequests = NetworkBlocker.drain(driver);
+        if (!blockedRequests.isEmpty()) {
+            int total = blockedRequests.values().stream().mapToInt(Integer::intValue).sum();
+            test.info("Blocked " + total + " ad/third-party requests: " + blockedRequests);
+        }
+        int recovered = SelfHealingElement.drainRecoveries();
+        if (recovered > 0) {
+            test.info("Recovered " + recovered + " stale element(s) in place");
+        }
+        // Empty the leased account's cart while its session is still logged in, then return it
+        TestAccount account = leasedAccount.get();
+        if (account != null) {
+            leasedAccount.remove();
+            AccountPool.release(driver, account);
+        }
+        // Page objects and element handles belong to this test's page states
+        PageRegistry.clear();
+        if (driver != null) {
+            ElementCache.invalidate(driver);
+        }
+        // Return session to the pool; it is reset (cookies, storage, windows) for the next test
         try {
-            driver.close();
+            WebdriverUtil.releaseDriver();
         } catch (Exception e) {
-            test.warning("Driver close encountered issue: " + e.getMessage());
+            test.warning("Driver release encountered issue: " + e.getMessage());
         }
     }
 
     @AfterSuite(alwaysRun = true)
     public void afterSuite() {
-        // Suite teardown: flush report
+        // Suite teardown: release browsers, record run summary, flush report
         System.out.println("Test Suite Execution Completed");
+        DriverWarmer.stop();
+        if (ConfigManager.getBooleanProperty("cleanup.afterSuite", false)) {
+            // Delete accounts created in this run and those of the Registrations sheet
+            AccountCleanupEngine.fromConfig().run(AccountSource.journal(),
+                    AccountSource.of(ExcelExtractorUtil.extractData("Registrations"), 3, 4));
+        }
+        System.out.println(DriverPool.summary());
+        DriverPool.shutdown();
+        System.out.println(DriverProcessTracker.summary());
+        System.out.println(NetworkBlocker.summary());
+        System.out.println(WaitEngine.summary());
+        System.out.println(ElementCache.summary());
+        System.out.println(SelfHealingElement.summary());
+        System.out.println(NavigationManager.summary());
+        System.out.println(SessionStateCache.summary());
+        System.out.println(ShopApiClient.summary());
+        System.out.println(AccountPool.summary());
+        addSystemInfo("Driver Pool", DriverPool.summary());
+        addSystemInfo("Leaked Browser Processes", String.valueOf(DriverProcessTracker.getLeakCount()));
         System.out.println("Flushing Extent Report...");
         flushReport();
         System.out.println("Extent Report flushed successfully!");
@@ -25,7 +25,7 @@ public class TestCase01 extends BaseTest {
         
         // Step 1: Open home page
         getTest().info("Step 1: Opening Home Page");
-        HomePage hmpg = new HomePage(driver);
+        HomePage hmpg = page(HomePage.class);
         hmpg.openHomePage();
         System.out.println("Opened Home Page");
         getTest().info("Home page loaded successfully");
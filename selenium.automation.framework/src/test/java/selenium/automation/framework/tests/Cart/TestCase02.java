@@ -32,7 +32,7 @@ public class TestCase02 extends BaseTest {
         getTest().info("Test Objective: Verify product can be added to cart successfully");
 
         WebDriver driver = WebdriverUtil.getDriver();
-        ProductsPage prdpg = new ProductsPage(driver);
+        ProductsPage prdpg = page(ProductsPage.class);
 
         try {
             // Step 1: Navigate to products page
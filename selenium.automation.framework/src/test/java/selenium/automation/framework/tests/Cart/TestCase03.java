@@ -33,7 +33,7 @@ public class TestCase03 extends BaseTest {
         getTest().info("Test Objective: Add product to cart and verify it appears in cart page");
 
         WebDriver driver = WebdriverUtil.getDriver();
-        ProductsPage prdpg = new ProductsPage(driver);
+        ProductsPage prdpg = page(ProductsPage.class);
 
         try {
             // Step 1: Navigate to products page
@@ -79,7 +79,7 @@ public class TestCase03 extends BaseTest {
             
             // Step 4: Validate cart row presence
             getTest().info("Step 4: Verifying Product Exists in Cart");
-            CartPage cartPage = new CartPage(driver);
+            CartPage cartPage = page(CartPage.class);
             boolean isInCart = cartPage.isItemsInCart(1);
             Assert.assertTrue(isInCart, "Product with ID 1 should be in the cart.");
             getTest().info("Product ID 1 verification result: " + (isInCart ? "Found" : "Not Found"));
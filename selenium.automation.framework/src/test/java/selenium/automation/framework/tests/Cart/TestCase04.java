@@ -26,8 +26,8 @@ public class TestCase04 extends BaseTest {
         getTest().info("Test Objective: Verify item can be removed from cart successfully");
         
         WebdriverUtil.getDriver();
-        CartPage cartPage = new CartPage(WebdriverUtil.getDriver());
-        ProductsPage productsPage = new ProductsPage(WebdriverUtil.getDriver());
+        CartPage cartPage = page(CartPage.class);
+        ProductsPage productsPage = page(ProductsPage.class);
         
         // Step 1: Open products
         getTest().info("Step 1: Navigating to Products Page");
@@ -57,15 +57,9 @@ public class TestCase04 extends BaseTest {
         // Step 5: Remove product
         getTest().info("Step 5: Removing Product from Cart");
         cartPage.removeItemFromCart("2");
+        // removeItemFromCart returns once the page has dropped the row (in-page wait)
         getTest().info("Remove item action triggered for Product ID: 2");
         
-        // Wait for cart to update after removal
-        try {
-            Thread.sleep(500); // Brief wait for DOM update
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-        
         // Step 6: Post-removal absence check
         getTest().info("Step 6: Verifying Product Removed from Cart");
         boolean itemInCartAfter = cartPage.isItemsInCart(2);
@@ -31,8 +31,8 @@ public class TestCase05 extends BaseTest {
         getTest().info("Test Objective: Verify product quantity is displayed correctly in cart");
         
         WebDriver driver = WebdriverUtil.getDriver();
-        CartPage cartPage = new CartPage(driver);
-        ProductsPage productsPage = new ProductsPage(driver);
+        CartPage cartPage = page(CartPage.class);
+        ProductsPage productsPage = page(ProductsPage.class);
         
         try {
             // Step 1: Open products
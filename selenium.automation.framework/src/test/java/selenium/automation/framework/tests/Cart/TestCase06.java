@@ -48,8 +48,8 @@ public class TestCase06 extends BaseTest {
         getTest().info("Test Objective: Verify cart displays correct pricing information");
         
         WebDriver driver = WebdriverUtil.getDriver();
-        CartPage cartPage = new CartPage(driver);
-        ProductsPage productsPage = new ProductsPage(driver);
+        CartPage cartPage = page(CartPage.class);
+        ProductsPage productsPage = page(ProductsPage.class);
         
         try {
             // Step 1: Open products page
@@ -32,9 +32,9 @@ public class TestCase07 extends BaseTest {
         getTest().info("Test Objective: Verify user cannot proceed from cart to checkout page without login");
 
         WebDriver driver = WebdriverUtil.getDriver();
-        CartPage cartPage = new CartPage(driver);
-        ProductsPage productsPage = new ProductsPage(driver);
-        CheckOutPage checkoutPage = new CheckOutPage(driver);
+        CartPage cartPage = page(CartPage.class);
+        ProductsPage productsPage = page(ProductsPage.class);
+        CheckOutPage checkoutPage = page(CheckOutPage.class);
 
         try {
             // Step 1: Open products listing
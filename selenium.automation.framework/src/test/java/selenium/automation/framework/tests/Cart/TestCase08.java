@@ -0,0 +1,77 @@
+package selenium.automation.framework.tests.Cart;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import selenium.automation.framework.core.ConfigManager;
+import selenium.automation.framework.core.WaitEngine;
+import selenium.automation.framework.core.WebdriverUtil;
+import selenium.automation.framework.pages.ProductsPage;
+import selenium.automation.framework.tests.BaseTest;
+
+/**
+ * CART-08: Product details in a popup window, then back to the products tab.
+ * Steps: open products -> open details popup -> close popup -> switch back -> add product.
+ * Runs as a multiplexed tab in the Product suite, so it also covers window tracking after close().
+ */
+public class TestCase08 extends BaseTest {
+    private static final Logger logger = LoggerFactory.getLogger(TestCase08.class);
+
+    @Test
+    public void TC08() {
+        logger.info("Executing Cart Test Case 08");
+        createTest("CART-08");
+        getTest().info("========== Starting Test Case: CART-08 - Close Popup and Return ==========");
+        getTest().info("WebDriver initialized successfully");
+        getTest().info("Test Objective: Verify the test can close a popup window and keep shopping in its original tab");
+
+        WebDriver driver = WebdriverUtil.getDriver();
+        ProductsPage prdpg = page(ProductsPage.class);
+
+        try {
+            // Step 1: Navigate to products page
+            getTest().info("Step 1: Opening Products Page");
+            prdpg.openProductsPage();
+            String productsHandle = driver.getWindowHandle();
+            getTest().info("Products page loaded successfully");
+
+            // Step 2: Open product details in a popup window
+            getTest().info("Step 2: Opening Product #1 Details in a Popup Window");
+            driver.switchTo().newWindow(WindowType.WINDOW);
+            String popupHandle = driver.getWindowHandle();
+            Assert.assertNotEquals(popupHandle, productsHandle, "Popup should be a new window");
+            driver.get(ConfigManager.getProperty("ProductsPageURL").replace("/products", "/product_details/1"));
+            WaitEngine.get(driver).until("product details URL", d -> d.getCurrentUrl().contains("product_details"));
+            getTest().info("Product details shown in popup: " + driver.getCurrentUrl());
+
+            // Step 3: Close the popup and switch back
+            getTest().info("Step 3: Closing Popup and Switching Back to Products Tab");
+            driver.close();
+            driver.switchTo().window(productsHandle);
+            Assert.assertEquals(driver.getWindowHandle(), productsHandle, "Should be back on the products tab");
+            Assert.assertTrue(driver.getCurrentUrl().contains("/products"), "Products tab should still show the catalog");
+            getTest().info("Back on products tab: " + driver.getCurrentUrl());
+
+            // Step 4: Keep shopping in the original tab
+            getTest().info("Step 4: Adding Product #1 to Cart from the Original Tab");
+            prdpg.addFirstProductToCart(1);
+            Assert.assertTrue(prdpg.isProductAddedToCart(), "Product was not added to cart after closing the popup.");
+
+            getTest().pass("✓ Popup closed and shopping continued in the original tab");
+            logger.info("Popup closed and product added from original tab.");
+
+        } catch (Exception e) {
+            logger.error("Error in TC08", e);
+            getTest().fail("✗ Test failed with exception: " + e.getMessage());
+            getTest().info("Error details logged for debugging");
+            throw e;
+        } finally {
+            logger.info("Completed Cart Test Case 08");
+            getTest().info("========== Test Case CART-08 Completed ==========");
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
+import selenium.automation.framework.core.TestAccount;
 import selenium.automation.framework.core.WebdriverUtil;
 import selenium.automation.framework.pages.CartPage;
 import selenium.automation.framework.pages.CheckOutPage;
@@ -45,17 +46,16 @@ public class TestCase01 extends BaseTest {
         // Get the WebDriver instance
         WebDriver driver = WebdriverUtil.getDriver();
         // Initialize Page Objects
-        ProductsPage productsPage = new ProductsPage(driver);
-        CartPage cartPage = new CartPage(driver);
-        CheckOutPage checkoutPage = new CheckOutPage(driver);
-        LoginPage loginPage = new LoginPage(driver);
+        ProductsPage productsPage = page(ProductsPage.class);
+        CartPage cartPage = page(CartPage.class);
+        CheckOutPage checkoutPage = page(CheckOutPage.class);
+        LoginPage loginPage = page(LoginPage.class);
         
         try {
             // Step 1: Log in as an existing user
             getTest().info("Step 1: Performing User Login");
-            loginPage.openLoginPage();
-            getTest().info("Login page opened");
-            loginPage.performLogin(email, password);
+            TestAccount account = account(email, password);
+            loginPage.loginAs(account.email(), account.password());
             getTest().info("Login completed with provided credentials");
             
             // Initialize WebDriverWait for explicit waits
@@ -14,6 +14,7 @@ import org.testng.annotations.Test;
 import com.aventstack.extentreports.model.Log;
 
 
+import selenium.automation.framework.core.TestAccount;
 import selenium.automation.framework.core.WebdriverUtil;
 import selenium.automation.framework.pages.CartPage;
 import selenium.automation.framework.pages.CheckOutPage;
@@ -39,17 +40,16 @@ public class TestCase03 extends BaseTest {
         getTest().info("Test Credentials: Email=" + email + ", Password=****");
         
         WebDriver driver = WebdriverUtil.getDriver();
-        ProductsPage productsPage = new ProductsPage(driver);
-        CartPage cartPage = new CartPage(driver);
-        CheckOutPage checkoutPage = new CheckOutPage(driver);
-        LoginPage loginPage = new LoginPage(driver);
+        ProductsPage productsPage = page(ProductsPage.class);
+        CartPage cartPage = page(CartPage.class);
+        CheckOutPage checkoutPage = page(CheckOutPage.class);
+        LoginPage loginPage = page(LoginPage.class);
         
         try {
             // Step 1: Login flow
             getTest().info("Step 1: Performing User Login");
-            loginPage.openLoginPage();
-            getTest().info("Login page opened");
-            loginPage.performLogin(email, password);
+            TestAccount account = account(email, password);
+            loginPage.loginAs(account.email(), account.password());
             getTest().info("User authenticated successfully");
             
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
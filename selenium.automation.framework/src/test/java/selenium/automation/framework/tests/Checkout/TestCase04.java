@@ -13,6 +13,7 @@ import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
+import selenium.automation.framework.core.TestAccount;
 import selenium.automation.framework.core.WebdriverUtil;
 import selenium.automation.framework.pages.CartPage;
 import selenium.automation.framework.pages.CheckOutPage;
@@ -38,17 +39,16 @@ public class TestCase04 extends BaseTest {
         getTest().info("Test Credentials: Email=" + email + ", Password=****");
         
         WebDriver driver = WebdriverUtil.getDriver();
-        ProductsPage productsPage = new ProductsPage(driver);
-        CartPage cartPage = new CartPage(driver);
-        CheckOutPage checkoutPage = new CheckOutPage(driver);
-        LoginPage loginPage = new LoginPage(driver);
+        ProductsPage productsPage = page(ProductsPage.class);
+        CartPage cartPage = page(CartPage.class);
+        CheckOutPage checkoutPage = page(CheckOutPage.class);
+        LoginPage loginPage = page(LoginPage.class);
         
         try {
             // Step 1: User authentication
             getTest().info("Step 1: Performing User Login");
-            loginPage.openLoginPage();
-            getTest().info("Login page opened");
-            loginPage.performLogin(email, password);
+            TestAccount account = account(email, password);
+            loginPage.loginAs(account.email(), account.password());
             getTest().info("User authenticated successfully");
             
             // Wait for page to load after login
@@ -14,10 +14,13 @@ import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
+import selenium.automation.framework.core.TestAccount;
 import selenium.automation.framework.core.WebdriverUtil;
 import selenium.automation.framework.pages.CartPage;
 import selenium.automation.framework.pages.CheckOutPage;
+import selenium.automation.framework.pages.ElementCache;
 import selenium.automation.framework.pages.LoginPage;
+import selenium.automation.framework.pages.NavigationManager;
 import selenium.automation.framework.pages.ProductsPage;
 import selenium.automation.framework.tests.BaseTest;
 
@@ -39,11 +42,9 @@ public class TestCase05 extends BaseTest {
         getTest().info("Test Credentials: Email=" + email + ", Password=****");
         
         WebDriver driver = WebdriverUtil.getDriver();
-        ProductsPage productsPage = new ProductsPage(driver);
-        CartPage cartPage = new CartPage(driver);
-        // Instantiate checkout page only when needed later (lazy); removing unused variable warning.
-        // CheckOutPage checkoutPage = new CheckOutPage(driver); // not required until after cart verification
-        LoginPage loginPage = new LoginPage(driver);
+        ProductsPage productsPage = page(ProductsPage.class);
+        CartPage cartPage = page(CartPage.class);
+        LoginPage loginPage = page(LoginPage.class);
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         
         // Store the original window handle
@@ -53,9 +54,8 @@ public class TestCase05 extends BaseTest {
         try {
             // Step 1: Authenticate user
             getTest().info("Step 1: Performing User Login");
-            loginPage.openLoginPage();
-            getTest().info("Login page opened");
-            loginPage.performLogin(email, password);
+            TestAccount account = account(email, password);
+            loginPage.loginAs(account.email(), account.password());
             getTest().info("User authenticated successfully");
             
             wait.until(d -> {
@@ -107,6 +107,8 @@ public class TestCase05 extends BaseTest {
                     break;
                 }
             }
+            // Shared page objects follow the driver; handles cached in the first tab belong to its document
+            ElementCache.invalidate(driver);
             
             // Step 7: Add second product (Tab2)
             getTest().info("Step 7: Adding Product in New Tab");
@@ -114,19 +116,17 @@ public class TestCase05 extends BaseTest {
             wait.until(ExpectedConditions.urlContains("products"));
             getTest().info("Products page loaded in new tab");
             
-            ProductsPage productsPageTab2 = new ProductsPage(driver);
-            productsPageTab2.addFirstProductToCart(2);
+            productsPage.addFirstProductToCart(2);
             getTest().info("Product #2 added to cart in new tab");
             
-            productsPageTab2.clickViewCartLink();
+            productsPage.clickViewCartLink();
             wait.until(ExpectedConditions.urlContains("view_cart"));
             getTest().info("Cart page opened in new tab");
             
             // Step 8: Verify both products present (Tab2)
             getTest().info("Step 8: Verifying Both Products in Cart (Tab 2)");
-            CartPage cartPageTab2 = new CartPage(driver);
-            boolean item1InCart = cartPageTab2.isItemsInCart(1);
-            boolean item2InCart = cartPageTab2.isItemsInCart(2);
+            boolean item1InCart = cartPage.isItemsInCart(1);
+            boolean item2InCart = cartPage.isItemsInCart(2);
             getTest().info("Product #1 in cart (Tab 2): " + item1InCart);
             getTest().info("Product #2 in cart (Tab 2): " + item2InCart);
             Assert.assertTrue(item1InCart, "Product 1 should be in cart");
@@ -137,6 +137,7 @@ public class TestCase05 extends BaseTest {
             getTest().info("Step 9: Switching Back to Original Tab");
             driver.switchTo().window(originalWindow);
             getTest().info("Switched back to original tab");
+            ElementCache.invalidate(driver);
             
             // Verify we're on cart page
             wait.until(d -> {
@@ -147,26 +148,24 @@ public class TestCase05 extends BaseTest {
             
             // Step 10: Refresh to sync cart state
             getTest().info("Step 10: Refreshing Cart in Original Tab");
-            driver.navigate().refresh();
+            NavigationManager.refresh(driver);
             wait.until(ExpectedConditions.urlContains("view_cart"));
             getTest().info("Cart page refreshed");
             
-            CartPage cartPageTab1 = new CartPage(driver);
-            boolean bothItemsInOriginalTab = cartPageTab1.isItemsInCart(1) && cartPageTab1.isItemsInCart(2);
+            boolean bothItemsInOriginalTab = cartPage.isItemsInCart(1) && cartPage.isItemsInCart(2);
             getTest().info("Both products in cart (Original Tab after refresh): " + bothItemsInOriginalTab);
             Assert.assertTrue(bothItemsInOriginalTab, "Both products should be in cart after refresh");
             getTest().pass("✓ Cart synchronized across tabs");
             
             // Step 11: Proceed to checkout (Tab1)
             getTest().info("Step 11: Proceeding to Checkout from Original Tab");
-            cartPageTab1.proceedToCheckout();
+            cartPage.proceedToCheckout();
             wait.until(ExpectedConditions.urlContains("checkout"));
             getTest().info("Checkout page loaded");
             
             // Step 12: Validate checkout page visible
             getTest().info("Step 12: Verifying Checkout Page Display");
-            CheckOutPage checkoutPageTab1 = new CheckOutPage(driver);
-            boolean isCheckoutDisplayed = checkoutPageTab1.isAddressFormDisplayed();
+            boolean isCheckoutDisplayed = page(CheckOutPage.class).isAddressFormDisplayed();
             Assert.assertTrue(isCheckoutDisplayed, "Checkout page should be displayed");
             getTest().info("Checkout form displayed: " + isCheckoutDisplayed);
             getTest().pass("✓ Checkout page verified");
@@ -1,5 +1,7 @@
 package selenium.automation.framework.tests.SignUp;
 
+import java.io.UncheckedIOException;
+
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -8,6 +10,9 @@ import org.testng.annotations.Test;
 
 
 
+import selenium.automation.framework.core.AccountDetails;
+import selenium.automation.framework.core.AccountJournal;
+import selenium.automation.framework.core.ShopApiClient;
 import selenium.automation.framework.core.WebdriverUtil;
 import selenium.automation.framework.pages.SignupPage;
 import selenium.automation.framework.tests.BaseTest;
@@ -38,6 +43,16 @@ public class TestCase03 extends BaseTest {
         // Begin workflow for registration
         System.out.println("Executing Test  with testCaseName: " + testCaseName);
         getTest().info("Filling signup form with Name: " + name + ", Email: " + email);
+        // Precondition via API: an account left by an earlier run would block a signup meant to succeed
+        if (expectedResult != null && expectedResult.startsWith("Success") && email != null && !email.isEmpty()) {
+            try {
+                if (ShopApiClient.getDefault().deleteAccount(email, password)) {
+                    getTest().info("Removed existing account " + email + " via API");
+                }
+            } catch (UncheckedIOException e) {
+                getTest().warning("Account API unreachable, existing account not removed: " + e.getMessage());
+            }
+        }
         SignupPage signupPage = new SignupPage(driver);
         signupPage.openSignupPage();
         System.out.println("Opened Signup Page");
@@ -66,51 +81,24 @@ public class TestCase03 extends BaseTest {
         }
 
         System.out.println("Clicked Signup Button");
-        // Fill extended profile & account details
-        // Select title radio by provided value
+        // Fill extended profile & account details in one batched form fill
         getTest().info("Selecting Title: " + title);
-        if(title.equalsIgnoreCase("Mr")) {
-            signupPage.selectMrRadioButton();
-            System.out.println("Selected Title: Mr");
-        } else if(title.equalsIgnoreCase("Mrs")) {
-            signupPage.selectMrsRadioButton();
-            System.out.println("Selected Title: Mrs");
-        } else {
+        if (!title.equalsIgnoreCase("Mr") && !title.equalsIgnoreCase("Mrs")) {
             getTest().warning("Invalid title provided: " + title);
         }
-        // Enter password and date of birth components
-        getTest().info("Entering Password and Date of Birth");
-        signupPage.enterPassword(password);
-        System.out.println("Entered Password" + password);
-        getTest().info("Selecting Date of Birth: " + dateOfBirth);
-        String[] dobParts = dateOfBirth.split("-");
-        signupPage.selectDateOfBirth(dobParts[0], dobParts[1], dobParts[2]);
-        System.out.println("Selected Date of Birth: " + dateOfBirth);
-
-        // Enter personal name details
+        getTest().info("Entering Password and Date of Birth: " + dateOfBirth);
         getTest().info("Entering First Name: " + firstName + " and Last Name: " + lastName);
-        signupPage.enterFirstName(firstName);
-        signupPage.enterLastName(lastName);
-        System.out.println("Entered First Name: " + firstName + ", Last Name: " + lastName);
-
-        // Enter address & contact information fields
         getTest().info("Entering Company, Address, Country, State, City, Zipcode, Mobile Number");
-        signupPage.enterCompanyName(company);
-        signupPage.enterAddress1(address1);
-        signupPage.enterAddress2(address2);
-        
-        signupPage.selectCountry(country);
-        
-        signupPage.enterState(state);
-        
-        signupPage.enterCity(city);
-        signupPage.enterZipcode(zipcode);
-        signupPage.enterMobileNumber(mobileNumber);
+        signupPage.fillAccountDetails(new AccountDetails(title, password, dateOfBirth, firstName, lastName,
+                company, address1, address2, country, state, city, zipcode, mobileNumber));
+        System.out.println("Entered Title: " + title + ", Date of Birth: " + dateOfBirth + ", First Name: " + firstName + ", Last Name: " + lastName);
         System.out.println("Entered Company: " + company + ", Address1: " + address1 + ", Address2: " + address2 + ", Country: " + country + ", State: " + state + ", City: " + city + ", Zipcode: " + zipcode + ", Mobile Number: " + mobileNumber);   
         // Submit registration form
         getTest().info("Submitting the signup form");
         signupPage.clickCreateAccountButton();
         System.out.println("Clicked Create Account Button");
+        // Journal the account so cleanup finds it even if the suite stops here
+        AccountJournal.record(email, password);
         
         // Expected result verification can be implemented here
         getTest().info("Verifying expected result: " + expectedResult);
@@ -1,8 +1,16 @@
 package selenium.automation.framework.utils;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
 import org.testng.ITestContext;
 import org.testng.annotations.DataProvider;
 
@@ -17,9 +25,21 @@ import org.apache.poi.ss.usermodel.WorkbookFactory;
  * Utility for extracting structured test data from Excel workbook on classpath.
  * Supports multiple sheet models ("Registrations", "Login") with defensive fallbacks.
  * Provides TestNG @DataProvider integration for parameterized tests.
+ * Design choices:
+ *  - The workbook is parsed once per process into immutable per-sheet row tables shared by all threads.
+ *  - Each lookup re-reads the raw file bytes and compares a CRC32 checksum; only a changed file is parsed again.
+ *  - Callers get fresh Object[] rows, so a DataProvider consumer cannot alter the cached table.
  */
 public class ExcelExtractorUtil {
 
+    private static final String RESOURCE = "testData.xlsx";
+
+    // Columns read per supported sheet (test case name first); other sheets yield no rows
+    private static final Map<String, Integer> SHEET_COLUMNS = Map.of("registrations", 17, "login", 4);
+
+    // Parsed workbook and the checksum of the bytes it was parsed from
+    private static volatile Tables tables;
+
     /**
      * TestNG DataProvider delegating to extractData using sheetName parameter from XML.
      */
@@ -36,85 +56,135 @@ public class ExcelExtractorUtil {
      * @return two-dimensional Object array for DataProvider consumption
      */
     public static Object[][] extractData(String sheetName) {
-        List<Object[]> rows = new ArrayList<>();
-        DataFormatter formatter = new DataFormatter();
-        try (InputStream in = ExcelExtractorUtil.class.getClassLoader().getResourceAsStream("testData.xlsx")) {
+        try {
+            List<List<String>> rows = current().rows(sheetName);
+            Object[][] data = new Object[rows.size()][];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = rows.get(i).toArray();
+            }
+            return data;
+        } catch (Exception e) {
+            System.out.println("Error reading Excel file: " + e.getMessage());
+            e.printStackTrace();
+            // Provide at least one default row so callers can proceed based on sheet type
+            if ("Registrations".equalsIgnoreCase(sheetName)) {
+                return new Object[][] { { "DefaultName", "", "", "default@example.com", "password", "1990-01-01", "First", "Last", "Company", "Address1", "Address2", "United States", "State", "City", "12345", "1234567890", "Default" } };
+            } else if ("Login".equalsIgnoreCase(sheetName)) {
+                return new Object[][] { { "DefaultName", "default@example.com", "password", "Default" } };
+            }
+            return new Object[0][];
+        }
+    }
+
+    /**
+     * Looks up one row by its test case name (first column) without copying the whole sheet.
+     * @param sheetName target sheet (e.g., Registrations, Login)
+     * @param testCaseName value of the first column
+     * @return column values of the row, or null if the sheet has no such row
+     */
+    public static Object[] findRow(String sheetName, String testCaseName) {
+        List<String> row = current().row(sheetName, testCaseName);
+        return row == null ? null : row.toArray();
+    }
+
+    /**
+     * Returns the parsed workbook, parsing it again only when the resource's checksum has changed.
+     */
+    private static Tables current() {
+        byte[] bytes;
+        try (InputStream in = ExcelExtractorUtil.class.getClassLoader().getResourceAsStream(RESOURCE)) {
             if (in == null) {
-                throw new IllegalStateException("Resource testData.xlsx not found on classpath");
+                throw new IllegalStateException("Resource " + RESOURCE + " not found on classpath");
             }
-            Workbook workbook = WorkbookFactory.create(in);
-            //  for testing remove afterwards
-            // sheetName = sheetName != null ? sheetName : "Registrations";
+            bytes = in.readAllBytes();
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("Could not read " + RESOURCE, e);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        long checksum = crc.getValue();
 
-            if ("Registrations".equalsIgnoreCase(sheetName)){
+        Tables cached = tables;
+        if (cached != null && cached.checksum == checksum) {
+            return cached;
+        }
+        synchronized (ExcelExtractorUtil.class) {
+            if (tables == null || tables.checksum != checksum) {
+                tables = parse(bytes, checksum);
+                System.out.println("Parsed " + RESOURCE + " (checksum " + Long.toHexString(checksum) + ")");
+            }
+            return tables;
+        }
+    }
 
-                Sheet sheet = workbook.getSheet(sheetName);
-                if (sheet == null) {
-                    throw new IllegalArgumentException("Sheet '" + sheetName + "' not found");
+    private static Tables parse(byte[] bytes, long checksum) {
+        DataFormatter formatter = new DataFormatter();
+        Map<String, List<List<String>>> sheets = new HashMap<>();
+        try (Workbook workbook = WorkbookFactory.create(new ByteArrayInputStream(bytes))) {
+            for (Sheet sheet : workbook) {
+                Integer columns = SHEET_COLUMNS.get(sheet.getSheetName().toLowerCase(Locale.ROOT));
+                if (columns == null) {
+                    continue;
                 }
+                List<List<String>> rows = new ArrayList<>();
                 boolean headerSkipped = false;
                 for (Row row : sheet) {
                     if (!headerSkipped) { // skip header row
                         headerSkipped = true;
                         continue;
                     }
-                    String TestCaseName = row.getCell(0) != null ? formatter.formatCellValue(row.getCell(0)) : "";
-                    String Title = row.getCell(1) != null ? formatter.formatCellValue(row.getCell(1)) : "";
-                    String Name = row.getCell(2) != null ? formatter.formatCellValue(row.getCell(2)) : "";
-                    String Email = row.getCell(3) != null ? formatter.formatCellValue(row.getCell(3)) : "";
-                    String Password = row.getCell(4) != null ? formatter.formatCellValue(row.getCell(4)) : "";
-                    String DateOfBirth = row.getCell(5) != null ? formatter.formatCellValue(row.getCell(5)) : "";
-                    String FirstName = row.getCell(6) != null ? formatter.formatCellValue(row.getCell(6)) : "";
-                    String LastName = row.getCell(7) != null ? formatter.formatCellValue(row.getCell(7)) : "";
-                    String Company = row.getCell(8) != null ? formatter.formatCellValue(row.getCell(8)) : "";
-                    String Address1 = row.getCell(9) != null ? formatter.formatCellValue(row.getCell(9)) : "";
-                    String Address2 = row.getCell(10) != null ? formatter.formatCellValue(row.getCell(10)) : "";
-                    String Country = row.getCell(11) != null ? formatter.formatCellValue(row.getCell(11)) : "";
-                    String State = row.getCell(12) != null ? formatter.formatCellValue(row.getCell(12)) : "";
-                    String City = row.getCell(13) != null ? formatter.formatCellValue(row.getCell(13)) : "";
-                    String Zipcode = row.getCell(14) != null ? formatter.formatCellValue(row.getCell(14)) : "";
-                    String MobileNumber = row.getCell(15) != null ? formatter.formatCellValue(row.getCell(15)) : "";
-                    String ExpectedResult = formatter.formatCellValue(row.getCell(16));
-                    if( (TestCaseName == null || TestCaseName.isBlank())) {
-                        continue;
-                    }
-                    
-                    rows.add(new Object[] { TestCaseName, Title, Name, Email, Password, DateOfBirth, FirstName, LastName, Company, Address1, Address2, Country, State, City, Zipcode, MobileNumber, ExpectedResult });
-
-                }
-            }else if("Login".equalsIgnoreCase(sheetName)){
-                Sheet sheet = workbook.getSheet(sheetName);
-                if (sheet == null) {
-                    throw new IllegalArgumentException("Sheet '" + sheetName + "' not found");
-                }
-                boolean headerSkipped = false;
-                for (Row row : sheet) {
-                    if (!headerSkipped) { // skip header row
-                        headerSkipped = true;
-                        continue;
+                    List<String> values = new ArrayList<>(columns);
+                    for (int c = 0; c < columns; c++) {
+                        values.add(row.getCell(c) != null ? formatter.formatCellValue(row.getCell(c)) : "");
                     }
-                    String testCaseName = row.getCell(0) != null ? formatter.formatCellValue(row.getCell(0)) : "";
-                    String Email = row.getCell(1) != null ? formatter.formatCellValue(row.getCell(1)) : "";
-                    String Password = row.getCell(2) != null ? formatter.formatCellValue(row.getCell(2)) : "";
-                    String ExpectedResult = row.getCell(3) != null ? formatter.formatCellValue(row.getCell(3)) : "";
-                    if( (testCaseName == null || testCaseName.isBlank())) {
+                    if (values.get(0).isBlank()) {
                         continue;
                     }
-                    
-                    rows.add(new Object[] { testCaseName, Email, Password, ExpectedResult });
+                    rows.add(List.copyOf(values));
                 }
+                sheets.put(sheet.getSheetName().toLowerCase(Locale.ROOT), List.copyOf(rows));
             }
         } catch (Exception e) {
-            System.out.println("Error reading Excel file: " + e.getMessage());
-            e.printStackTrace();
-            // Provide at least one default row so callers can proceed based on sheet type
-            if ("Registrations".equalsIgnoreCase(sheetName)) {
-                rows.add(new Object[] { "DefaultName", "", "", "default@example.com", "password", "1990-01-01", "First", "Last", "Company", "Address1", "Address2", "United States", "State", "City", "12345", "1234567890", "Default" });
-            } else if ("Login".equalsIgnoreCase(sheetName)) {
-                rows.add(new Object[] { "DefaultName", "default@example.com", "password", "Default" });
-            }
+            throw new IllegalStateException("Could not parse " + RESOURCE + ": " + e.getMessage(), e);
         }
-        return rows.toArray(new Object[0][]);
+        return new Tables(checksum, sheets);
     }
 
+    /** Immutable row tables of one version of the workbook. */
+    private static final class Tables {
+        private final long checksum;
+        private final Map<String, List<List<String>>> sheets;
+        private final Map<String, Map<String, List<String>>> rowsByName = new HashMap<>();
+
+        Tables(long checksum, Map<String, List<List<String>>> sheets) {
+            this.checksum = checksum;
+            this.sheets = Map.copyOf(sheets);
+            sheets.forEach((sheet, rows) -> {
+                Map<String, List<String>> byName = new LinkedHashMap<>();
+                for (List<String> row : rows) {
+                    byName.putIfAbsent(row.get(0), row);
+                }
+                rowsByName.put(sheet, Collections.unmodifiableMap(byName));
+            });
+        }
+
+        List<List<String>> rows(String sheetName) {
+            if (sheetName == null) {
+                return List.of();
+            }
+            String key = sheetName.toLowerCase(Locale.ROOT);
+            if (SHEET_COLUMNS.containsKey(key) && !sheets.containsKey(key)) {
+                throw new IllegalArgumentException("Sheet '" + sheetName + "' not found");
+            }
+            return sheets.getOrDefault(key, List.of());
+        }
+
+        List<String> row(String sheetName, String testCaseName) {
+            if (sheetName == null) {
+                return null;
+            }
+            Map<String, List<String>> byName = rowsByName.get(sheetName.toLowerCase(Locale.ROOT));
+            return byName == null ? null : byName.get(testCaseName);
+        }
+    }
 }
@@ -62,6 +62,18 @@ public class SetupExtentReportUtil {
         return extentTest.get();
     }
 
+    /**
+     * Adds a key/value entry to the report's system info (run summary) section.
+     * Safe no-op if the report is not initialized.
+     * @param key label shown in the report
+     * @param value value shown in the report
+     */
+    public static void addSystemInfo(String key, String value) {
+        if (extentReports != null) {
+            extentReports.setSystemInfo(key, value);
+        }
+    }
+
     /**
      * Flushes report buffers to disk; safe no-op if not initialized.
      */